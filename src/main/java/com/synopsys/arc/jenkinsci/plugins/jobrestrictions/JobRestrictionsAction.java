@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes.NodeEligibility;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.model.RootAction;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * REST endpoints of the plugin at {@code /jobRestrictions}.
+ * <ul>
+ *     <li>{@code metrics} - {@link RestrictionMetrics} as JSON</li>
+ *     <li>{@code resetMetrics} - resets {@link RestrictionMetrics}, requires POST</li>
+ *     <li>{@code eligibility?job=a/b&node=agent&user=alice} - {@link NodeEligibility} matrix as JSON.
+ *         Both {@code job} and {@code node} may be repeated, all jobs or all nodes are checked if the parameter
+ *         is missing. Jobs are checked as if they were started by the {@code user}, or without causes</li>
+ * </ul>
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class JobRestrictionsAction implements RootAction {
+
+    @Override
+    public String getIconFileName() {
+        return null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return null;
+    }
+
+    @Override
+    public String getUrlName() {
+        return "jobRestrictions";
+    }
+
+    public void doMetrics(StaplerResponse2 rsp) throws IOException {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        rsp.setContentType("application/json;charset=UTF-8");
+        rsp.getWriter().print(RestrictionMetrics.get().toJSON().toString(2));
+    }
+
+    @RequirePOST
+    public void doResetMetrics(StaplerResponse2 rsp) throws IOException {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        RestrictionMetrics.get().reset();
+        rsp.setStatus(StaplerResponse2.SC_OK);
+    }
+
+    public void doEligibility(StaplerRequest2 req, StaplerResponse2 rsp) throws IOException, InterruptedException {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        final List<Queue.Task> tasks;
+        final List<Node> nodes;
+        try {
+            tasks = NodeEligibility.getTasks(getParameters(req, "job"));
+            nodes = NodeEligibility.getNodes(getParameters(req, "node"));
+        } catch (IllegalArgumentException ex) {
+            rsp.sendError(StaplerResponse2.SC_BAD_REQUEST, ex.getMessage());
+            return;
+        }
+
+        rsp.setContentType("application/json;charset=UTF-8");
+        rsp.getWriter().print(NodeEligibility.evaluate(tasks, nodes, Util.fixEmptyAndTrim(req.getParameter("user")))
+                .toJSON());
+    }
+
+    @CheckForNull
+    private static List<String> getParameters(StaplerRequest2 req, String name) {
+        final String[] values = req.getParameterValues(name);
+        return values != null ? Arrays.asList(values) : null;
+    }
+}
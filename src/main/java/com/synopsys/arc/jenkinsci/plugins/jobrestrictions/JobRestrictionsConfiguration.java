@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes.RestrictionPolicy;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserAuthoritiesCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Queue;
+import hudson.util.FormValidation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import jenkins.model.GlobalConfiguration;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * Global configuration of the plugin.
+ * @since TODO
+ */
+@Extension
+public class JobRestrictionsConfiguration extends GlobalConfiguration {
+
+    /**
+     * Smallest recommended size of the authorities cache.
+     * Smaller caches may evict users with queued builds before their builds start,
+     * so their authorities would be resolved again and again.
+     */
+    /*package*/ static final int MIN_RECOMMENDED_AUTHORITIES_CACHE_SIZE = 100;
+
+    /**Expiration time of cached user authorities in seconds. 0 disables the cache.*/
+    private int authoritiesCacheExpirationSeconds = 300;
+
+    /**Maximal number of users in the authorities cache.*/
+    private int authoritiesCacheMaxSize = 1000;
+
+    /**Cache the users, for which no authorities have been found.*/
+    private boolean authoritiesCacheMissingUsers = true;
+
+    /**Resolve user authorities in background instead of blocking the Queue. Opt-in.*/
+    private boolean asyncAuthoritiesResolution;
+
+    /**Controller-wide restrictions of nodes. {@code null} if not configured.*/
+    @CheckForNull
+    private volatile List<RestrictionPolicy> policies;
+
+    public JobRestrictionsConfiguration() {
+        load();
+    }
+
+    @NonNull
+    public static JobRestrictionsConfiguration get() {
+        return ExtensionList.lookupSingleton(JobRestrictionsConfiguration.class);
+    }
+
+    @NonNull
+    @Override
+    public String getDisplayName() {
+        return Messages.JobRestrictionsConfiguration_DisplayName();
+    }
+
+    @Override
+    public boolean configure(StaplerRequest2 req, JSONObject json) throws FormException {
+        // Repeatable properties are omitted from the form submission if there are no entries
+        policies = Collections.emptyList();
+        req.bindJSON(this, json);
+        save();
+        UserAuthoritiesCache.get().invalidate();
+        Queue.getInstance().scheduleMaintenance();
+        return true;
+    }
+
+    public int getAuthoritiesCacheExpirationSeconds() {
+        return authoritiesCacheExpirationSeconds;
+    }
+
+    @DataBoundSetter
+    public void setAuthoritiesCacheExpirationSeconds(int authoritiesCacheExpirationSeconds) {
+        this.authoritiesCacheExpirationSeconds = Math.max(0, authoritiesCacheExpirationSeconds);
+    }
+
+    public int getAuthoritiesCacheMaxSize() {
+        return authoritiesCacheMaxSize;
+    }
+
+    @DataBoundSetter
+    public void setAuthoritiesCacheMaxSize(int authoritiesCacheMaxSize) {
+        this.authoritiesCacheMaxSize = Math.max(0, authoritiesCacheMaxSize);
+    }
+
+    @RequirePOST
+    public FormValidation doCheckAuthoritiesCacheMaxSize(@QueryParameter String value) {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        final int maxSize;
+        try {
+            maxSize = Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return FormValidation.error(Messages.JobRestrictionsConfiguration_AuthoritiesCacheMaxSize_NotANumber());
+        }
+        if (maxSize < 0) {
+            return FormValidation.error(Messages.JobRestrictionsConfiguration_AuthoritiesCacheMaxSize_Negative());
+        }
+        if (maxSize > 0 && maxSize < MIN_RECOMMENDED_AUTHORITIES_CACHE_SIZE) {
+            return FormValidation.warning(Messages.JobRestrictionsConfiguration_AuthoritiesCacheMaxSize_TooSmall(
+                    MIN_RECOMMENDED_AUTHORITIES_CACHE_SIZE));
+        }
+        return FormValidation.ok();
+    }
+
+    public boolean isAuthoritiesCacheMissingUsers() {
+        return authoritiesCacheMissingUsers;
+    }
+
+    @DataBoundSetter
+    public void setAuthoritiesCacheMissingUsers(boolean authoritiesCacheMissingUsers) {
+        this.authoritiesCacheMissingUsers = authoritiesCacheMissingUsers;
+    }
+
+    public boolean isAsyncAuthoritiesResolution() {
+        return asyncAuthoritiesResolution;
+    }
+
+    @DataBoundSetter
+    public void setAsyncAuthoritiesResolution(boolean asyncAuthoritiesResolution) {
+        this.asyncAuthoritiesResolution = asyncAuthoritiesResolution;
+    }
+
+    /**
+     * Gets controller-wide restriction policies.
+     * @return Unmodifiable list of policies
+     */
+    @NonNull
+    public List<RestrictionPolicy> getPolicies() {
+        final List<RestrictionPolicy> current = policies;
+        return current != null ? Collections.unmodifiableList(current) : Collections.emptyList();
+    }
+
+    @DataBoundSetter
+    public void setPolicies(@CheckForNull List<RestrictionPolicy> policies) {
+        this.policies = policies != null ? new ArrayList<>(policies) : null;
+    }
+}
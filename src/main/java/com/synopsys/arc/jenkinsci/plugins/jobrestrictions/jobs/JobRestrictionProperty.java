@@ -24,17 +24,30 @@
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.jobs;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import hudson.AbortException;
 import hudson.Extension;
 import hudson.model.AbstractBuild;
+import hudson.model.Action;
 import hudson.model.BuildListener;
 import hudson.model.Cause;
+import hudson.model.CauseAction;
+import hudson.model.Item;
 import hudson.model.Job;
 import hudson.model.JobProperty;
 import hudson.model.JobPropertyDescriptor;
+import hudson.model.Queue;
+import hudson.model.listeners.ItemListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
 import hudson.slaves.NodeProperty;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -43,6 +56,8 @@ import org.kohsuke.stapler.DataBoundConstructor;
  */
 public class JobRestrictionProperty extends JobProperty {
 
+    private static final Logger LOGGER = Logger.getLogger(JobRestrictionProperty.class.getName());
+
     @CheckForNull
     JobRestrictionPropertyConfig config;
 
@@ -58,6 +73,7 @@ public class JobRestrictionProperty extends JobProperty {
 
     @Override
     public boolean prebuild(AbstractBuild build, BuildListener listener) {
+        final long startTime = System.nanoTime();
         // Consider build as valid if any cause is valid
         for (Object cause : build.getCauses()) {
             try {
@@ -66,20 +82,101 @@ public class JobRestrictionProperty extends JobProperty {
                 // TODO: Throw AbortedException upstairs after fix of https://issues.jenkins-ci.org/browse/JENKINS-19497
                 String message = "[Job Restrictions] - Build will be aborted: " + ex.getMessage();
                 listener.fatalError(message);
+                record(build, startTime, true);
                 return false;
             }
         }
 
         // Build is valid
+        record(build, startTime, false);
         return true;
     }
 
+    private static void record(AbstractBuild build, long startTime, boolean blocked) {
+        record(build.getParent(), startTime, blocked);
+    }
+
+    private static void record(Job<?, ?> job, long startTime, boolean blocked) {
+        final long duration = System.nanoTime() - startTime;
+        RestrictionMetrics.get().record(RestrictionMetrics.JOBS, job.getFullName(), duration, blocked, false);
+    }
+
     private void validateCause(Cause cause, BuildListener listener) throws AbortException {
         if (config != null) {
             config.validateCause(cause, listener);
         }
     }
 
+    /**
+     * Rejects builds with prohibited causes when they are being scheduled, so they never occupy executors.
+     * {@link #prebuild(AbstractBuild, BuildListener)} remains as a safety net for builds,
+     * which have been scheduled before the property was configured.
+     */
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class QueueDecisionHandlerImpl extends Queue.QueueDecisionHandler {
+
+        @Override
+        public boolean shouldSchedule(Queue.Task p, List<Action> actions) {
+            if (!(p instanceof Job)) {
+                return true;
+            }
+            final Job<?, ?> job = (Job<?, ?>) p;
+            final JobRestrictionProperty property = job.getProperty(JobRestrictionProperty.class);
+            final JobRestrictionPropertyConfig config = property != null ? property.getConfig() : null;
+            if (config == null) {
+                return true;
+            }
+
+            final long startTime = System.nanoTime();
+            // Upstream jobs and builds may be invisible to the user, who schedules the build
+            try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+                for (Action action : actions) {
+                    if (!(action instanceof CauseAction)) {
+                        continue;
+                    }
+                    for (Cause cause : ((CauseAction) action).getCauses()) {
+                        try {
+                            config.validateCause(cause);
+                        } catch (AbortException ex) {
+                            LOGGER.log(
+                                    Level.INFO,
+                                    "[Job Restrictions] - Build of {0} has been rejected: {1}",
+                                    new Object[] {job.getFullName(), ex.getMessage()});
+                            record(job, startTime, true);
+                            return false;
+                        }
+                    }
+                }
+            }
+            record(job, startTime, false);
+            return true;
+        }
+    }
+
+    /**
+     * Removes or moves metrics of deleted and renamed jobs, so they do not pile up.
+     */
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class ItemListenerImpl extends ItemListener {
+
+        @Override
+        public void onDeleted(Item item) {
+            if (item instanceof Job) {
+                RestrictionMetrics.get().remove(RestrictionMetrics.JOBS, item.getFullName());
+            }
+        }
+
+        @Override
+        public void onLocationChanged(Item item, String oldFullName, String newFullName) {
+            // Also invoked for each job within a renamed or moved folder
+            if (item instanceof Job) {
+                RestrictionMetrics.get().rename(RestrictionMetrics.JOBS, oldFullName, newFullName);
+            }
+        }
+    }
+
     @Extension
     public static class DescriptorImpl extends JobPropertyDescriptor {
         @Override
@@ -23,6 +23,7 @@
  */
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.jobs;
 
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.AbortException;
 import hudson.Extension;
@@ -56,17 +57,42 @@ public class JobRestrictionPropertyConfig implements Describable<JobRestrictionP
     }
 
     public void validateCause(@NonNull Cause cause, @NonNull BuildListener listener) throws AbortException {
+        validateCause(cause);
+    }
+
+    /**
+     * Validates the cause without a build.
+     * It allows checking the cause when the build is being scheduled.
+     * @param cause Cause to be checked
+     * @throws AbortException The cause is not allowed
+     * @since TODO
+     */
+    public void validateCause(@NonNull Cause cause) throws AbortException {
         if (upstreamCauseRestriction != null && cause instanceof Cause.UpstreamCause) {
-            upstreamCauseRestriction.validate((Cause.UpstreamCause) cause);
+            validate(upstreamCauseRestriction, (Cause.UpstreamCause) cause);
         }
 
         if (userIdCauseRestriction != null && cause instanceof Cause.UserIdCause) {
-            userIdCauseRestriction.validate((Cause.UserIdCause) cause);
+            validate(userIdCauseRestriction, (Cause.UserIdCause) cause);
         }
         // TODO: checks
 
     }
 
+    private static <TCause extends Cause> void validate(
+            @NonNull JobCauseRestriction<TCause> restriction, @NonNull TCause cause) throws AbortException {
+        final long startTime = System.nanoTime();
+        boolean blocked = true;
+        try {
+            restriction.validate(cause);
+            blocked = false;
+        } finally {
+            final long duration = System.nanoTime() - startTime;
+            final String type = restriction.getClass().getName();
+            RestrictionMetrics.get().record(RestrictionMetrics.RESTRICTIONS, type, duration, blocked, false);
+        }
+    }
+
     @Override
     public Descriptor<JobRestrictionPropertyConfig> getDescriptor() {
         return DESCRIPTOR;
@@ -25,11 +25,11 @@ package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.jobs;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
 import hudson.AbortException;
 import hudson.Extension;
 import hudson.model.Cause;
 import hudson.model.Descriptor;
-import hudson.model.Run;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -61,15 +61,16 @@ public class UpstreamCauseRestriction extends JobCauseRestriction<Cause.Upstream
 
     @Override
     public void validate(Cause.UpstreamCause cause) throws AbortException {
-        final Run upstreamRun = cause.getUpstreamRun();
-        if (upstreamRun == null) {
+        // Most restrictions decide from the data stored in the cause, so the build does not get loaded
+        final RunRestrictionContext context = new RunRestrictionContext(cause);
+        if (!context.runExists()) {
             if (!skipCheckForMissingInfo) {
                 throw new AbortException("Upstream build info is missing");
             } else {
                 return;
             }
         }
-        if (jobRestriction != null && !jobRestriction.canTake(upstreamRun)) {
+        if (jobRestriction != null && !jobRestriction.canTake(context)) {
             throw new AbortException("Job can't be executed due to upstream restrictions");
         }
     }
@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import jenkins.metrics.api.Metrics;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Publishes evaluations to the Metrics plugin, if it is installed.
+ * Metrics are named {@code jenkins.job-restrictions.<scope>.<name>.(duration|blocks|cache-hits)}.
+ */
+@Extension(optional = true)
+@Restricted(NoExternalUse.class)
+public class MetricsPluginSink extends RestrictionMetrics.Sink {
+
+    private static final String PREFIX = "jenkins.job-restrictions";
+
+    private final ConcurrentMap<String, Metered> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(
+            @NonNull String scope, @NonNull String name, long durationNanos, boolean blocked, boolean cacheHit) {
+        resolve(scope, name).record(durationNanos, blocked, cacheHit);
+    }
+
+    @NonNull
+    @Override
+    public RestrictionMetrics.Metric resolve(@NonNull String scope, @NonNull String name) {
+        return metrics.computeIfAbsent(
+                key(scope, name),
+                k -> new Metered(Metrics.metricRegistry(), MetricRegistry.name(PREFIX, scope, name)));
+    }
+
+    @Override
+    public void remove(@NonNull String scope, @NonNull String name) {
+        final Metered metered = metrics.remove(key(scope, name));
+        if (metered != null) {
+            metered.remove(Metrics.metricRegistry());
+        }
+    }
+
+    @NonNull
+    private static String key(@NonNull String scope, @NonNull String name) {
+        return scope + '\n' + name;
+    }
+
+    private static final class Metered implements RestrictionMetrics.Metric {
+
+        private final String name;
+        private final Timer duration;
+        private final Meter blocks;
+        private final Meter cacheHits;
+
+        Metered(@NonNull MetricRegistry registry, @NonNull String name) {
+            this.name = name;
+            this.duration = registry.timer(MetricRegistry.name(name, "duration"));
+            this.blocks = registry.meter(MetricRegistry.name(name, "blocks"));
+            this.cacheHits = registry.meter(MetricRegistry.name(name, "cache-hits"));
+        }
+
+        @Override
+        public void record(long durationNanos, boolean blocked, boolean cacheHit) {
+            duration.update(durationNanos, TimeUnit.NANOSECONDS);
+            if (blocked) {
+                blocks.mark();
+            }
+            if (cacheHit) {
+                cacheHits.mark();
+            }
+        }
+
+        void remove(@NonNull MetricRegistry registry) {
+            registry.remove(MetricRegistry.name(name, "duration"));
+            registry.remove(MetricRegistry.name(name, "blocks"));
+            registry.remove(MetricRegistry.name(name, "cache-hits"));
+        }
+    }
+}
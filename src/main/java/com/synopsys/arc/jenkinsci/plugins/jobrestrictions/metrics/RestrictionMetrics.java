@@ -0,0 +1,380 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ExtensionList;
+import hudson.ExtensionPoint;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * In-process metrics of restriction checks.
+ * Statistics are collected per scope (e.g. {@link #NODES}) and per name within the scope (e.g. a node name):
+ * number of evaluations, blocks, cache hits and a latency histogram with power-of-two buckets.
+ * Each evaluation is also passed to {@link Sink}s, e.g. to the Metrics plugin.
+ * Frequent callers should obtain a {@link Recorder} once and reuse it,
+ * so the statistics and the metrics of sinks are not looked up for each evaluation.
+ * @see com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsAction
+ */
+@Restricted(NoExternalUse.class)
+public final class RestrictionMetrics {
+
+    /**Checks of {@link com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes.JobRestrictionProperty}, per node.*/
+    public static final String NODES = "nodes";
+
+    /**Checks of restrictions, per restriction type.*/
+    public static final String RESTRICTIONS = "restrictions";
+
+    /**Checks of {@link com.synopsys.arc.jenkinsci.plugins.jobrestrictions.jobs.JobRestrictionProperty}, per job.*/
+    public static final String JOBS = "jobs";
+
+    /**Lookups of user authorities. Blocks are lookups without info about the user.*/
+    public static final String REALM = "realm";
+
+    private static final int BUCKETS = 40;
+
+    private static final RestrictionMetrics INSTANCE = new RestrictionMetrics();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Stats>> scopes = new ConcurrentHashMap<>();
+
+    /**Incremented when statistics are removed, so {@link Recorder}s resolve them again.*/
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private RestrictionMetrics() {}
+
+    @NonNull
+    public static RestrictionMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records an evaluation.
+     * @param scope Scope of the evaluation
+     * @param name Name within the scope
+     * @param durationNanos Duration of the evaluation
+     * @param blocked {@code true} if the evaluation has blocked the item or the build
+     * @param cacheHit {@code true} if the result has been taken from a cache
+     */
+    public void record(
+            @NonNull String scope, @NonNull String name, long durationNanos, boolean blocked, boolean cacheHit) {
+        getStatsOrCreate(scope, name).record(durationNanos, blocked, cacheHit);
+        for (Sink sink : getSinks()) {
+            sink.record(scope, name, durationNanos, blocked, cacheHit);
+        }
+    }
+
+    /**
+     * Gets the recorder of evaluations, which may be kept by the caller.
+     * Statistics and metrics of sinks are resolved on the first evaluation.
+     * @param scope Scope of evaluations
+     * @param name Name within the scope
+     * @return Recorder
+     */
+    @NonNull
+    public Recorder recorder(@NonNull String scope, @NonNull String name) {
+        return new Recorder(scope, name);
+    }
+
+    /**
+     * Removes statistics, e.g. of a deleted node.
+     * @param scope Scope
+     * @param name Name within the scope
+     */
+    public void remove(@NonNull String scope, @NonNull String name) {
+        final Map<String, Stats> stats = scopes.get(scope);
+        if (stats != null) {
+            stats.remove(name);
+        }
+        generation.incrementAndGet();
+        for (Sink sink : getSinks()) {
+            sink.remove(scope, name);
+        }
+    }
+
+    /**
+     * Moves statistics to another name, e.g. of a renamed job.
+     * Metrics of sinks are removed, they start again with the new name.
+     * @param scope Scope
+     * @param oldName Previous name within the scope
+     * @param newName New name within the scope
+     */
+    public void rename(@NonNull String scope, @NonNull String oldName, @NonNull String newName) {
+        final Map<String, Stats> stats = scopes.get(scope);
+        final Stats moved = stats != null ? stats.remove(oldName) : null;
+        if (moved != null) {
+            stats.putIfAbsent(newName, moved);
+        }
+        generation.incrementAndGet();
+        for (Sink sink : getSinks()) {
+            sink.remove(scope, oldName);
+        }
+    }
+
+    @NonNull
+    private Stats getStatsOrCreate(@NonNull String scope, @NonNull String name) {
+        return scopes.computeIfAbsent(scope, k -> new ConcurrentHashMap<>()).computeIfAbsent(name, k -> new Stats());
+    }
+
+    @NonNull
+    private static List<Sink> getSinks() {
+        return Jenkins.getInstanceOrNull() != null ? ExtensionList.lookup(Sink.class) : Collections.emptyList();
+    }
+
+    /**
+     * Gets the statistics.
+     * @param scope Scope
+     * @param name Name within the scope
+     * @return Statistics. {@code null} if nothing has been recorded
+     */
+    @CheckForNull
+    public Stats getStats(@NonNull String scope, @NonNull String name) {
+        final Map<String, Stats> stats = scopes.get(scope);
+        return stats != null ? stats.get(name) : null;
+    }
+
+    /**
+     * Removes all statistics.
+     */
+    public void reset() {
+        scopes.clear();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Converts all statistics to JSON.
+     * @return JSON object with scopes, names within the scopes and their statistics
+     */
+    @NonNull
+    public JSONObject toJSON() {
+        final JSONObject res = new JSONObject();
+        for (Map.Entry<String, ConcurrentMap<String, Stats>> scope : new TreeMap<>(scopes).entrySet()) {
+            final JSONObject scopeJSON = new JSONObject();
+            for (Map.Entry<String, Stats> stats : new TreeMap<>(scope.getValue()).entrySet()) {
+                scopeJSON.put(stats.getKey(), stats.getValue().toJSON());
+            }
+            res.put(scope.getKey(), scopeJSON);
+        }
+        return res;
+    }
+
+    /**
+     * Records evaluations of a single name within a scope.
+     */
+    public interface Metric {
+
+        /**
+         * Records an evaluation.
+         * @param durationNanos Duration of the evaluation
+         * @param blocked {@code true} if the evaluation has blocked the item or the build
+         * @param cacheHit {@code true} if the result has been taken from a cache
+         */
+        void record(long durationNanos, boolean blocked, boolean cacheHit);
+    }
+
+    /**
+     * {@link Metric}, which keeps resolved statistics and metrics of all {@link Sink}s.
+     * They are resolved again only if statistics have been removed.
+     */
+    public final class Recorder implements Metric {
+
+        @NonNull
+        private final String scope;
+
+        @NonNull
+        private final String name;
+
+        @CheckForNull
+        private volatile Resolved resolved;
+
+        private Recorder(@NonNull String scope, @NonNull String name) {
+            this.scope = scope;
+            this.name = name;
+        }
+
+        /**
+         * Gets the name, under which evaluations are recorded.
+         * @return Name within the scope
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void record(long durationNanos, boolean blocked, boolean cacheHit) {
+            Resolved current = resolved;
+            if (current == null || current.generation != generation.get()) {
+                current = resolve();
+                resolved = current;
+            }
+            current.stats.record(durationNanos, blocked, cacheHit);
+            for (Metric sinkMetric : current.sinkMetrics) {
+                sinkMetric.record(durationNanos, blocked, cacheHit);
+            }
+        }
+
+        @NonNull
+        private Resolved resolve() {
+            final int currentGeneration = generation.get();
+            final List<Sink> sinks = getSinks();
+            final Metric[] sinkMetrics = new Metric[sinks.size()];
+            for (int i = 0; i < sinkMetrics.length; i++) {
+                sinkMetrics[i] = sinks.get(i).resolve(scope, name);
+            }
+            return new Resolved(currentGeneration, getStatsOrCreate(scope, name), sinkMetrics);
+        }
+    }
+
+    private static final class Resolved {
+
+        private final int generation;
+
+        @NonNull
+        private final Stats stats;
+
+        @NonNull
+        private final Metric[] sinkMetrics;
+
+        Resolved(int generation, @NonNull Stats stats, @NonNull Metric[] sinkMetrics) {
+            this.generation = generation;
+            this.stats = stats;
+            this.sinkMetrics = sinkMetrics;
+        }
+    }
+
+    /**
+     * Statistics of evaluations.
+     */
+    public static final class Stats {
+
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder blocks = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**Bucket {@code i} counts evaluations, which took less than {@code 2^(i+1)} nanoseconds.*/
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        Stats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        void record(long durationNanos, boolean blocked, boolean cacheHit) {
+            evaluations.increment();
+            if (blocked) {
+                blocks.increment();
+            }
+            if (cacheHit) {
+                cacheHits.increment();
+            }
+            final long duration = Math.max(durationNanos, 1);
+            totalNanos.add(duration);
+            histogram[Math.min(63 - Long.numberOfLeadingZeros(duration), BUCKETS - 1)].increment();
+        }
+
+        public long getEvaluations() {
+            return evaluations.sum();
+        }
+
+        public long getBlocks() {
+            return blocks.sum();
+        }
+
+        public long getCacheHits() {
+            return cacheHits.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        @NonNull
+        JSONObject toJSON() {
+            final long count = getEvaluations();
+            final JSONObject res = new JSONObject();
+            res.put("evaluations", count);
+            res.put("blocks", getBlocks());
+            res.put("cacheHits", getCacheHits());
+            res.put("totalNanos", getTotalNanos());
+            res.put("meanNanos", count > 0 ? getTotalNanos() / count : 0);
+
+            // Non-empty buckets, keys are upper bounds in nanoseconds
+            final JSONObject buckets = new JSONObject();
+            for (int i = 0; i < BUCKETS; i++) {
+                final long bucket = histogram[i].sum();
+                if (bucket > 0) {
+                    buckets.put(Long.toString(1L << (i + 1)), bucket);
+                }
+            }
+            res.put("latencyHistogram", buckets);
+            return res;
+        }
+    }
+
+    /**
+     * Receives all evaluations, e.g. in order to publish them to external monitoring.
+     */
+    public abstract static class Sink implements ExtensionPoint {
+
+        /**
+         * Records an evaluation.
+         * @see RestrictionMetrics#record(String, String, long, boolean, boolean)
+         */
+        public abstract void record(
+                @NonNull String scope, @NonNull String name, long durationNanos, boolean blocked, boolean cacheHit);
+
+        /**
+         * Resolves the metric, which is kept by {@link Recorder}s.
+         * Default implementation delegates to {@link #record(String, String, long, boolean, boolean)}.
+         * @param scope Scope of evaluations
+         * @param name Name within the scope
+         * @return Metric
+         */
+        @NonNull
+        public Metric resolve(@NonNull String scope, @NonNull String name) {
+            return (durationNanos, blocked, cacheHit) -> record(scope, name, durationNanos, blocked, cacheHit);
+        }
+
+        /**
+         * Removes the metric, e.g. of a deleted node.
+         * @param scope Scope
+         * @param name Name within the scope
+         */
+        public void remove(@NonNull String scope, @NonNull String name) {}
+    }
+}
@@ -24,14 +24,23 @@
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionBlockageCause;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import hudson.model.Node;
 import hudson.model.Queue;
 import hudson.model.queue.CauseOfBlockage;
 import hudson.slaves.NodeProperty;
 import hudson.slaves.NodePropertyDescriptor;
+import jenkins.model.NodeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -43,16 +52,59 @@ public class JobRestrictionProperty extends NodeProperty<Node> {
     /**Restriction according to buildable item requirements*/
     JobRestriction jobRestriction;
 
+    /**Compiled {@link #jobRestriction}, which is used in queue checks*/
+    @CheckForNull
+    private transient CompiledJobRestriction compiledRestriction;
+
+    /**Metrics of the node. Lazily initialized, because the node is assigned after the construction and may be renamed*/
+    @CheckForNull
+    private transient volatile RestrictionMetrics.Recorder nodeMetrics;
+
     @DataBoundConstructor
     public JobRestrictionProperty(JobRestriction jobRestriction) {
-        this.jobRestriction = jobRestriction;
+        this.compiledRestriction = compile(jobRestriction);
+        this.jobRestriction = compiledRestriction != null ? compiledRestriction.getSource() : null;
+    }
+
+    protected Object readResolve() {
+        compiledRestriction = compile(jobRestriction);
+        if (compiledRestriction != null) {
+            // Nodes with equal restrictions share the tree, the deserialized copy gets garbage-collected
+            jobRestriction = compiledRestriction.getSource();
+        }
+        return this;
+    }
+
+    @CheckForNull
+    private static CompiledJobRestriction compile(@CheckForNull JobRestriction jobRestriction) {
+        return jobRestriction != null ? CompiledJobRestriction.intern(jobRestriction) : null;
     }
 
     @Override
     public CauseOfBlockage canTake(Queue.BuildableItem item) {
-        if (jobRestriction != null) {
-            if (!jobRestriction.canTake(item)) {
-                return JobRestrictionBlockageCause.DEFAULT;
+        final CompiledJobRestriction compiledRestriction = this.compiledRestriction;
+        if (compiledRestriction != null) {
+            final long startTime = System.nanoTime();
+            final QueueItemCache.Entry entry = QueueItemCache.get(item);
+            final boolean cacheable = entry != null && compiledRestriction.isCacheable();
+            final QueueItemCache.Decision cached = cacheable ? entry.getDecision(compiledRestriction) : null;
+            if (cached != null) {
+                record(startTime, cached.getBlockage() != null, true);
+                return cached.getBlockage();
+            }
+
+            final JobRestrictionContext context = new JobRestrictionContext(item, true, entry);
+            final CauseOfBlockage blockage = compiledRestriction.getCauseOfBlockage(context);
+            record(startTime, blockage != null, false);
+            if (context.isPending()) {
+                // Not a final decision, the item will be checked again when the data is resolved
+                return blockage != null ? JobRestrictionBlockageCause.RESOLVING_GROUPS : null;
+            }
+            if (cacheable) {
+                entry.putDecision(compiledRestriction, blockage);
+            }
+            if (blockage != null) {
+                return blockage;
             }
         }
 
@@ -60,10 +112,64 @@ public class JobRestrictionProperty extends NodeProperty<Node> {
         return null;
     }
 
+    private void record(long startTime, boolean blocked, boolean cacheHit) {
+        final long duration = System.nanoTime() - startTime;
+        final Node node = this.node;
+        if (node == null) {
+            return; // Not attached to a node yet
+        }
+        final String name = getMetricsName(node);
+        RestrictionMetrics.Recorder recorder = nodeMetrics;
+        if (recorder == null || !recorder.getName().equals(name)) {
+            // Resolved again after the node has been renamed
+            recorder = RestrictionMetrics.get().recorder(RestrictionMetrics.NODES, name);
+            nodeMetrics = recorder;
+        }
+        recorder.record(duration, blocked, cacheHit);
+    }
+
+    @NonNull
+    private static String getMetricsName(@NonNull Node node) {
+        return node.getNodeName().isEmpty() ? "(built-in)" : node.getNodeName();
+    }
+
     public JobRestriction getJobRestriction() {
         return jobRestriction;
     }
 
+    /**
+     * Gets the compiled restriction, which is used in queue checks.
+     * @return Compiled restriction. {@code null} if there is no restriction
+     */
+    @CheckForNull
+    @Restricted(NoExternalUse.class)
+    public CompiledJobRestriction getCompiledRestriction() {
+        return compiledRestriction;
+    }
+
+    /**
+     * Removes metrics of deleted nodes, so they do not pile up with ephemeral cloud agents.
+     * Metrics of renamed nodes are moved to the new name.
+     */
+    @Extension
+    @Restricted(NoExternalUse.class)
+    public static class NodeListenerImpl extends NodeListener {
+
+        @Override
+        protected void onDeleted(@NonNull Node node) {
+            RestrictionMetrics.get().remove(RestrictionMetrics.NODES, getMetricsName(node));
+        }
+
+        @Override
+        protected void onUpdated(@NonNull Node oldOne, @NonNull Node newOne) {
+            final String oldName = getMetricsName(oldOne);
+            final String newName = getMetricsName(newOne);
+            if (!oldName.equals(newName)) {
+                RestrictionMetrics.get().rename(RestrictionMetrics.NODES, oldName, newName);
+            }
+        }
+    }
+
     @Extension
     public static class DescriptorImpl extends NodePropertyDescriptor {
         @Override
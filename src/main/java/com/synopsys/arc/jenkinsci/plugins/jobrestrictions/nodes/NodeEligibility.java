@@ -0,0 +1,340 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Cause;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Label;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Evaluates, which nodes may run the tasks, in a batch.
+ * A task is eligible for a node if the label of the task matches the node
+ * and if {@link JobRestrictionProperty} of the node and all matching {@link RestrictionPolicy}s accept the task.
+ * Other conditions (executors, permissions, other plugins) are not checked.
+ * The evaluation runs in parallel in a bounded pool, each task context is extracted once per worker.
+ * @since TODO
+ */
+public final class NodeEligibility {
+
+    private static final int THREADS = Integer.getInteger(NodeEligibility.class.getName() + ".threads", 4);
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREADS,
+            THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamingThreadFactory(new DaemonThreadFactory(), "Job Restrictions node eligibility"));
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private NodeEligibility() {}
+
+    /**
+     * Gets all nodes, including the built-in node.
+     * @return List of nodes
+     */
+    @NonNull
+    public static List<Node> getAllNodes() {
+        final Jenkins jenkins = Jenkins.get();
+        final List<Node> nodes = new ArrayList<>(jenkins.getNodes().size() + 1);
+        nodes.add(jenkins);
+        nodes.addAll(jenkins.getNodes());
+        return nodes;
+    }
+
+    /**
+     * Resolves tasks by their full names.
+     * @param names Full names of jobs. {@code null} or empty list for all jobs
+     * @return Tasks
+     * @throws IllegalArgumentException A job does not exist or cannot be built
+     */
+    @NonNull
+    public static List<Queue.Task> getTasks(@CheckForNull List<String> names) {
+        final Jenkins jenkins = Jenkins.get();
+        final List<Queue.Task> tasks = new ArrayList<>();
+        if (names == null || names.isEmpty()) {
+            for (Job<?, ?> job : jenkins.allItems(Job.class)) {
+                if (job instanceof Queue.Task) {
+                    tasks.add((Queue.Task) job);
+                }
+            }
+            return tasks;
+        }
+
+        for (String name : names) {
+            final Item item = jenkins.getItemByFullName(name);
+            if (!(item instanceof Queue.Task)) {
+                throw new IllegalArgumentException("No such job: " + name);
+            }
+            tasks.add((Queue.Task) item);
+        }
+        return tasks;
+    }
+
+    /**
+     * Resolves nodes by their names.
+     * @param names Names of nodes, {@code built-in} for the built-in node. {@code null} or empty list for all nodes
+     * @return Nodes
+     * @throws IllegalArgumentException A node does not exist
+     */
+    @NonNull
+    public static List<Node> getNodes(@CheckForNull List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return getAllNodes();
+        }
+
+        final Jenkins jenkins = Jenkins.get();
+        final List<Node> nodes = new ArrayList<>(names.size());
+        for (String name : names) {
+            final Node node = name.equals(jenkins.getSelfLabel().getName()) ? jenkins : jenkins.getNode(name);
+            if (node == null) {
+                throw new IllegalArgumentException("No such node: " + name);
+            }
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    /**
+     * Evaluates all tasks against all nodes.
+     * Tasks are evaluated as if they were scheduled without causes,
+     * so restrictions by users and groups reject them.
+     * @param tasks Tasks to be checked
+     * @param nodes Nodes to be checked
+     * @return Matrix of eligible nodes for each task
+     * @throws InterruptedException The evaluation has been interrupted
+     */
+    @NonNull
+    public static Matrix evaluate(@NonNull List<? extends Queue.Task> tasks, @NonNull List<? extends Node> nodes)
+            throws InterruptedException {
+        return evaluate(tasks, nodes, null);
+    }
+
+    /**
+     * Evaluates all tasks against all nodes.
+     * Tasks are evaluated as if they were started by the user.
+     * Built-in restrictions are checked without queue items. Restrictions, which do not support
+     * {@link JobRestrictionContext}, get a detached item, and each such item consumes a queue ID.
+     * @param tasks Tasks to be checked
+     * @param nodes Nodes to be checked
+     * @param userId ID of the user, who would start the tasks. {@code null} to check tasks without causes
+     * @return Matrix of eligible nodes for each task
+     * @throws InterruptedException The evaluation has been interrupted
+     */
+    @NonNull
+    public static Matrix evaluate(
+            @NonNull List<? extends Queue.Task> tasks, @NonNull List<? extends Node> nodes, @CheckForNull String userId)
+            throws InterruptedException {
+        final List<Cause> causes = userId != null
+                ? Collections.singletonList(new Cause.UserIdCause(userId))
+                : Collections.emptyList();
+        final boolean[][] eligible = new boolean[tasks.size()][nodes.size()];
+
+        // Split nodes into chunks if there are not enough tasks to load all workers
+        final int chunks = Math.max(1, Math.min(nodes.size(), THREADS / Math.max(1, tasks.size())));
+        final int chunkSize = (nodes.size() + chunks - 1) / chunks;
+        final List<Callable<Void>> jobs = new ArrayList<>(tasks.size() * chunks);
+        for (int t = 0; t < tasks.size(); t++) {
+            for (int from = 0; from < nodes.size(); from += chunkSize) {
+                final Queue.Task task = tasks.get(t);
+                final boolean[] row = eligible[t];
+                final int start = from;
+                final int end = Math.min(nodes.size(), from + chunkSize);
+                jobs.add(() -> {
+                    evaluate(task, causes, nodes, start, end, row);
+                    return null;
+                });
+            }
+        }
+
+        for (Future<Void> future : EXECUTOR.invokeAll(jobs)) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Cannot evaluate node eligibility", cause);
+            }
+        }
+        return new Matrix(getNames(tasks), getNodeNames(nodes), eligible);
+    }
+
+    private static void evaluate(
+            @NonNull Queue.Task task,
+            @NonNull List<Cause> causes,
+            @NonNull List<? extends Node> nodes,
+            int start,
+            int end,
+            boolean[] row) {
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            // Built-in restrictions do not need queue items. A restriction without context support
+            // makes the context create a detached item, which consumes a queue ID once per task and chunk.
+            final JobRestrictionContext context = new JobRestrictionContext(task, causes);
+            final Label label = task.getAssignedLabel();
+            for (int i = start; i < end; i++) {
+                row[i] = isEligible(nodes.get(i), label, context);
+            }
+        }
+    }
+
+    private static boolean isEligible(
+            @NonNull Node node, @CheckForNull Label label, @NonNull JobRestrictionContext context) {
+        if (label == null ? node.getMode() == Node.Mode.EXCLUSIVE : !label.contains(node)) {
+            return false;
+        }
+        final JobRestrictionProperty property = node.getNodeProperty(JobRestrictionProperty.class);
+        final CompiledJobRestriction restriction = property != null ? property.getCompiledRestriction() : null;
+        if (restriction != null && !restriction.canTake(context)) {
+            return false;
+        }
+        for (RestrictionPolicy policy : JobRestrictionsConfiguration.get().getPolicies()) {
+            if (policy.appliesTo(node) && !policy.getCompiledRestriction().canTake(context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NonNull
+    private static List<String> getNames(@NonNull List<? extends Queue.Task> tasks) {
+        final List<String> names = new ArrayList<>(tasks.size());
+        for (Queue.Task task : tasks) {
+            names.add(task instanceof Item ? ((Item) task).getFullName() : task.getFullDisplayName());
+        }
+        return names;
+    }
+
+    @NonNull
+    private static List<String> getNodeNames(@NonNull List<? extends Node> nodes) {
+        final List<String> names = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            names.add(node.getSelfLabel().getName());
+        }
+        return names;
+    }
+
+    /**
+     * Result of the evaluation.
+     */
+    public static final class Matrix {
+
+        @NonNull
+        private final List<String> tasks;
+
+        @NonNull
+        private final List<String> nodes;
+
+        @NonNull
+        private final boolean[][] eligible;
+
+        Matrix(@NonNull List<String> tasks, @NonNull List<String> nodes, @NonNull boolean[][] eligible) {
+            this.tasks = Collections.unmodifiableList(tasks);
+            this.nodes = Collections.unmodifiableList(nodes);
+            this.eligible = eligible;
+        }
+
+        /**
+         * Gets names of the tasks, which correspond to rows.
+         * @return Names of the tasks
+         */
+        @NonNull
+        public List<String> getTasks() {
+            return tasks;
+        }
+
+        /**
+         * Gets names of the nodes, which correspond to columns.
+         * @return Names of the nodes
+         */
+        @NonNull
+        public List<String> getNodes() {
+            return nodes;
+        }
+
+        public boolean isEligible(int task, int node) {
+            return eligible[task][node];
+        }
+
+        /**
+         * Gets the row of the task as a string of {@code 0} and {@code 1} for each node.
+         * @param task Index of the task
+         * @return Compact row
+         */
+        @NonNull
+        public String getRow(int task) {
+            final boolean[] row = eligible[task];
+            final char[] res = new char[row.length];
+            for (int i = 0; i < row.length; i++) {
+                res[i] = row[i] ? '1' : '0';
+            }
+            return new String(res);
+        }
+
+        /**
+         * Converts the matrix to JSON.
+         * @return JSON object with {@code tasks}, {@code nodes} and compact {@code rows}
+         */
+        @NonNull
+        public JSONObject toJSON() {
+            final JSONArray rows = new JSONArray();
+            for (int i = 0; i < tasks.size(); i++) {
+                rows.add(getRow(i));
+            }
+            final JSONObject res = new JSONObject();
+            res.put("tasks", JSONArray.fromObject(tasks));
+            res.put("nodes", JSONArray.fromObject(nodes));
+            res.put("rows", rows);
+            return res;
+        }
+    }
+}
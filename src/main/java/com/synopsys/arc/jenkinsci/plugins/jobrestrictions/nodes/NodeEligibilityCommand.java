@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import hudson.Extension;
+import hudson.cli.CLICommand;
+import java.util.ArrayList;
+import java.util.List;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.args4j.Option;
+
+/**
+ * Prints the {@link NodeEligibility} matrix.
+ * The first line lists the nodes, then each line contains a row of {@code 0} and {@code 1} and the job name.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class NodeEligibilityCommand extends CLICommand {
+
+    @Option(name = "-job", usage = "Full name of the job to be checked. May be repeated, all jobs by default")
+    public List<String> jobs = new ArrayList<>();
+
+    @Option(name = "-node", usage = "Name of the node to be checked. May be repeated, all nodes by default")
+    public List<String> nodes = new ArrayList<>();
+
+    @Option(name = "-user", usage = "ID of the user, who would start the jobs. No causes by default")
+    public String user;
+
+    @Override
+    public String getName() {
+        return "job-restrictions-eligibility";
+    }
+
+    @Override
+    public String getShortDescription() {
+        return "Evaluates, which nodes may run the jobs according to labels and Job Restrictions";
+    }
+
+    @Override
+    protected int run() throws Exception {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        final NodeEligibility.Matrix matrix =
+                NodeEligibility.evaluate(NodeEligibility.getTasks(jobs), NodeEligibility.getNodes(nodes), user);
+
+        stdout.println(String.join(",", matrix.getNodes()));
+        for (int i = 0; i < matrix.getTasks().size(); i++) {
+            stdout.println(matrix.getRow(i) + " " + matrix.getTasks().get(i));
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.XmlFile;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.model.NodeListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Re-evaluates buildable items when {@link JobRestrictionProperty} of a single node changes.
+ * The evaluation runs in background, so saving the node does not wait for the queue.
+ * Decisions of the new property are put into {@link QueueItemCache}, so the next {@link Queue} pass
+ * does not need to evaluate them again. The maintenance is scheduled only if the set of items,
+ * which can be taken by the node, has changed.
+ */
+@Restricted(NoExternalUse.class)
+public final class NodeRestrictionChanges {
+
+    private static final Logger LOGGER = Logger.getLogger(NodeRestrictionChanges.class.getName());
+
+    /**Single thread, so changes of the same node are evaluated in the order they have been made.*/
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            1,
+            1,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamingThreadFactory(new DaemonThreadFactory(), "Job Restrictions node restriction changes"));
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private NodeRestrictionChanges() {}
+
+    /**
+     * Checks if the restriction of the node has changed.
+     * Equal restrictions share the compiled form, so saving a node with the same restriction is not a change.
+     * @param oldProperty Previous property of the node. {@code null} if there was no property
+     * @param newProperty Current property of the node. {@code null} if there is no property
+     * @return {@code true} if the node may take other items now
+     */
+    /*package*/ static boolean isChanged(
+            @CheckForNull JobRestrictionProperty oldProperty, @CheckForNull JobRestrictionProperty newProperty) {
+        return getCompiledRestriction(oldProperty) != getCompiledRestriction(newProperty);
+    }
+
+    @CheckForNull
+    private static CompiledJobRestriction getCompiledRestriction(@CheckForNull JobRestrictionProperty property) {
+        return property != null ? property.getCompiledRestriction() : null;
+    }
+
+    /**
+     * Re-evaluates buildable items against the old and the new restriction of a node.
+     * Decisions of the new property are stored in {@link QueueItemCache}.
+     * @param oldProperty Previous property of the node. {@code null} if there was no property
+     * @param newProperty Current property of the node. {@code null} if there is no property
+     * @return {@code true} if the set of items, which can be taken by the node, has changed
+     */
+    /*package*/ static boolean reevaluate(
+            @CheckForNull JobRestrictionProperty oldProperty, @CheckForNull JobRestrictionProperty newProperty) {
+        boolean changed = false;
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            for (Queue.BuildableItem item : Queue.getInstance().getBuildableItems()) {
+                // Both calls store their decisions, the old one is usually a cache hit
+                final boolean before = oldProperty == null || oldProperty.canTake(item) == null;
+                final boolean after = newProperty == null || newProperty.canTake(item) == null;
+                changed |= before != after;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Schedules the re-evaluation if the restriction of the node has changed.
+     * @param oldProperty Previous property of the node. {@code null} if there was no property
+     * @param newProperty Current property of the node. {@code null} if there is no property
+     * @return Completes with {@code true} if the maintenance has been scheduled
+     */
+    @NonNull
+    /*package*/ static Future<Boolean> onChange(
+            @CheckForNull JobRestrictionProperty oldProperty, @CheckForNull JobRestrictionProperty newProperty) {
+        if (!isChanged(oldProperty, newProperty)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        try {
+            return EXECUTOR.submit(() -> {
+                if (!reevaluate(oldProperty, newProperty)) {
+                    return false;
+                }
+                Queue.getInstance().scheduleMaintenance();
+                return true;
+            });
+        } catch (RejectedExecutionException ex) {
+            LOGGER.log(Level.WARNING, "Cannot re-evaluate the queue, scheduling the maintenance", ex);
+            Queue.getInstance().scheduleMaintenance();
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+
+    @CheckForNull
+    private static JobRestrictionProperty getProperty(@NonNull Node node) {
+        return node.getNodeProperty(JobRestrictionProperty.class);
+    }
+
+    /**
+     * Handles changes of agents.
+     */
+    @Extension
+    public static class NodeListenerImpl extends NodeListener {
+
+        @Override
+        protected void onUpdated(@NonNull Node oldOne, @NonNull Node newOne) {
+            onChange(getProperty(oldOne), getProperty(newOne));
+        }
+    }
+
+    /**
+     * Handles changes of the built-in node, which is being saved with the global configuration.
+     */
+    @Extension
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @CheckForNull
+        private JobRestrictionProperty builtInProperty;
+
+        @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+        public static void init() {
+            final SaveableListenerImpl listener = ExtensionList.lookupSingleton(SaveableListenerImpl.class);
+            synchronized (listener) {
+                listener.builtInProperty = getProperty(Jenkins.get());
+            }
+        }
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (!(o instanceof Jenkins)) {
+                return;
+            }
+
+            final JobRestrictionProperty oldProperty;
+            final JobRestrictionProperty newProperty = getProperty((Jenkins) o);
+            synchronized (this) {
+                oldProperty = builtInProperty;
+                builtInProperty = newProperty;
+            }
+            NodeRestrictionChanges.onChange(oldProperty, newProperty);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Label;
+import hudson.model.Queue;
+import hudson.model.queue.CauseOfBlockage;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.slaves.Cloud;
+import hudson.slaves.NodeProvisioner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Evaluates restrictions of agent templates against the pending load before provisioning.
+ * {@link Cloud} implementations may use it to skip templates, whose {@link JobRestrictionProperty}
+ * would block all queued items anyway, e.g. when {@link NodeProvisioner} requests capacity for a label.
+ * Decisions of cacheable restrictions are cached in {@link QueueItemCache} per interned restriction
+ * and per queue item, so templates with equal restrictions share them.
+ * {@link RestrictionPolicy}s are not taken into account, because they depend on the provisioned node.
+ * @since TODO
+ */
+public final class ProvisioningEligibility {
+
+    private ProvisioningEligibility() {}
+
+    /**
+     * Checks if an agent with the restriction could take the item.
+     * Slow data (e.g. user groups) is loaded within the call, hence it should not be invoked within the queue lock.
+     * @param restriction Restriction of the agent template
+     * @param item Queue item
+     * @return Cause of blockage. {@code null} if the restriction accepts the item
+     */
+    @CheckForNull
+    public static CauseOfBlockage getCauseOfBlockage(
+            @NonNull JobRestriction restriction, @NonNull Queue.BuildableItem item) {
+        return getCauseOfBlockage(CompiledJobRestriction.intern(restriction), item);
+    }
+
+    @CheckForNull
+    private static CauseOfBlockage getCauseOfBlockage(
+            @NonNull CompiledJobRestriction compiled, @NonNull Queue.BuildableItem item) {
+        final QueueItemCache.Entry entry = QueueItemCache.get(item);
+        final TemplateKey key = new TemplateKey(compiled);
+        final QueueItemCache.Decision cached = entry != null ? entry.getDecision(key) : null;
+        if (cached != null) {
+            return cached.getBlockage();
+        }
+
+        final CauseOfBlockage blockage = compiled.getCauseOfBlockage(new JobRestrictionContext(item, false, entry));
+        if (entry != null && compiled.isCacheable()) {
+            entry.putDecision(key, blockage);
+        }
+        return blockage;
+    }
+
+    /**
+     * Checks if an agent with the restriction could take the item.
+     * @param restriction Restriction of the agent template
+     * @param item Queue item
+     * @return {@code true} if the restriction accepts the item
+     * @see #getCauseOfBlockage(JobRestriction, Queue.BuildableItem)
+     */
+    public static boolean canTake(@NonNull JobRestriction restriction, @NonNull Queue.BuildableItem item) {
+        return getCauseOfBlockage(restriction, item) == null;
+    }
+
+    /**
+     * Gets buildable items, which are assigned to the label and accepted by the restriction.
+     * The label is compared in the same way as {@link NodeProvisioner} groups the load.
+     * @param restriction Restriction of the agent template
+     * @param label Label, for which the capacity is being requested. {@code null} for items without label
+     * @return Accepted items. Empty list if an agent from the template would not help
+     */
+    @NonNull
+    public static List<Queue.BuildableItem> getAcceptedItems(
+            @NonNull JobRestriction restriction, @CheckForNull Label label) {
+        final CompiledJobRestriction compiled = CompiledJobRestriction.intern(restriction);
+        final List<Queue.BuildableItem> accepted = new ArrayList<>();
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            for (Queue.BuildableItem item : Queue.getInstance().getBuildableItems()) {
+                if (Objects.equals(item.getAssignedLabel(), label)
+                        && getCauseOfBlockage(compiled, item) == null) {
+                    accepted.add(item);
+                }
+            }
+        }
+        return accepted;
+    }
+
+    @NonNull
+    /*package*/ static TemplateKey getCacheKey(@NonNull JobRestriction restriction) {
+        return new TemplateKey(CompiledJobRestriction.intern(restriction));
+    }
+
+    /**
+     * Key of decisions in {@link QueueItemCache}, which does not clash with restrictions of existing nodes.
+     * Equal restrictions are interned to the same {@link CompiledJobRestriction}, so it is compared by identity.
+     */
+    /*package*/ static final class TemplateKey {
+
+        @NonNull
+        private final CompiledJobRestriction compiled;
+
+        TemplateKey(@NonNull CompiledJobRestriction compiled) {
+            this.compiled = compiled;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TemplateKey && ((TemplateKey) obj).compiled == compiled;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(compiled);
+        }
+    }
+}
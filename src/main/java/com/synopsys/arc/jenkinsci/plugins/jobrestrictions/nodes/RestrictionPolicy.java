@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import hudson.model.Label;
+import hudson.model.Node;
+import hudson.model.labels.LabelExpression;
+import hudson.util.FormValidation;
+import java.io.Serializable;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * Controller-wide {@link JobRestriction}, which applies to all nodes matching the label expression
+ * and the node name pattern.
+ * Unlike {@link JobRestriction}s in {@link JobRestrictionProperty}, the policy is stored once
+ * and evaluated once per queue item, and the result is shared by all matching nodes.
+ * @see JobRestrictionsConfiguration#getPolicies()
+ * @since TODO
+ */
+public class RestrictionPolicy implements Describable<RestrictionPolicy>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**Label expression of nodes. {@code null} if the policy applies to nodes with any labels*/
+    @CheckForNull
+    private final String labelExpression;
+
+    /**Regular expression of node names. {@code null} if the policy applies to nodes with any names*/
+    @CheckForNull
+    private final String nodeNamePattern;
+
+    /**Restriction of jobs. The canonical tree from {@link CompiledJobRestriction#intern(JobRestriction)}*/
+    @NonNull
+    private JobRestriction jobRestriction;
+
+    @CheckForNull
+    private transient CompiledJobRestriction compiledRestriction;
+
+    /**Compiled {@link #nodeNamePattern}. {@code null} if there is no pattern or if it is invalid.*/
+    @CheckForNull
+    private transient Pattern pattern;
+
+    @DataBoundConstructor
+    public RestrictionPolicy(
+            @CheckForNull String labelExpression,
+            @CheckForNull String nodeNamePattern,
+            @CheckForNull JobRestriction jobRestriction) {
+        this.labelExpression = Util.fixEmptyAndTrim(labelExpression);
+        this.nodeNamePattern = Util.fixEmptyAndTrim(nodeNamePattern);
+        this.jobRestriction = jobRestriction != null ? jobRestriction : JobRestriction.DEFAULT;
+        init();
+    }
+
+    protected Object readResolve() {
+        init();
+        return this;
+    }
+
+    private void init() {
+        compiledRestriction = CompiledJobRestriction.intern(jobRestriction);
+        // Policies and nodes with equal restrictions share the tree, the copy gets garbage-collected
+        jobRestriction = compiledRestriction.getSource();
+        pattern = compile(nodeNamePattern);
+    }
+
+    @CheckForNull
+    private static Pattern compile(@CheckForNull String nodeNamePattern) {
+        if (nodeNamePattern == null) {
+            return null;
+        }
+        try {
+            return Pattern.compile(nodeNamePattern);
+        } catch (PatternSyntaxException ex) {
+            return null; // Ignore invalid pattern
+        }
+    }
+
+    @CheckForNull
+    public String getLabelExpression() {
+        return labelExpression;
+    }
+
+    @CheckForNull
+    public String getNodeNamePattern() {
+        return nodeNamePattern;
+    }
+
+    @NonNull
+    public JobRestriction getJobRestriction() {
+        return jobRestriction;
+    }
+
+    /**
+     * Gets the compiled restriction, which is used in queue checks.
+     * @return Compiled restriction
+     */
+    @NonNull
+    @Restricted(NoExternalUse.class)
+    public CompiledJobRestriction getCompiledRestriction() {
+        final CompiledJobRestriction compiled = compiledRestriction;
+        return compiled != null ? compiled : CompiledJobRestriction.intern(jobRestriction);
+    }
+
+    /**
+     * Checks if the policy applies to the node.
+     * A policy with an invalid node name pattern applies to no nodes.
+     * @param node Node to be checked
+     * @return {@code true} if the node matches both the label expression and the node name pattern
+     */
+    public boolean appliesTo(@NonNull Node node) {
+        if (nodeNamePattern != null) {
+            final Pattern p = pattern;
+            if (p == null || !p.matcher(node.getNodeName()).matches()) {
+                return false;
+            }
+        }
+        if (labelExpression != null) {
+            final Label label = Jenkins.get().getLabel(labelExpression);
+            return label != null && label.contains(node);
+        }
+        return true;
+    }
+
+    @Override
+    public DescriptorImpl getDescriptor() {
+        return (DescriptorImpl) Jenkins.get().getDescriptorOrDie(getClass());
+    }
+
+    @Extension
+    public static class DescriptorImpl extends Descriptor<RestrictionPolicy> {
+
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return Messages.nodes_RestrictionPolicy_DisplayName();
+        }
+
+        @RequirePOST
+        public FormValidation doCheckLabelExpression(@QueryParameter String labelExpression) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return Util.fixEmptyAndTrim(labelExpression) == null
+                    ? FormValidation.ok()
+                    : LabelExpression.validate(labelExpression);
+        }
+
+        @RequirePOST
+        public FormValidation doCheckNodeNamePattern(@QueryParameter String nodeNamePattern) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            try {
+                Pattern.compile(Util.fixNull(nodeNamePattern).trim());
+            } catch (PatternSyntaxException exception) {
+                return FormValidation.error(
+                        Messages.nodes_RestrictionPolicy_InvalidNodeNamePattern(exception.getDescription()));
+            }
+            return FormValidation.ok();
+        }
+    }
+}
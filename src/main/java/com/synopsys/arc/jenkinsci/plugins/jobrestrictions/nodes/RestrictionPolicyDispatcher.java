@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionBlockageCause;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.model.queue.CauseOfBlockage;
+import hudson.model.queue.QueueTaskDispatcher;
+import java.util.List;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Applies {@link RestrictionPolicy}s from {@link JobRestrictionsConfiguration} to nodes.
+ * Decisions of cacheable restrictions are cached per queue item and per compiled restriction in
+ * {@link QueueItemCache}, so each policy is evaluated once for the item regardless of the number of matching nodes.
+ * Policies and nodes with equal restrictions share the decisions.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class RestrictionPolicyDispatcher extends QueueTaskDispatcher {
+
+    @Override
+    public CauseOfBlockage canTake(Node node, Queue.BuildableItem item) {
+        final List<RestrictionPolicy> policies = JobRestrictionsConfiguration.get().getPolicies();
+        if (policies.isEmpty()) {
+            return null;
+        }
+
+        JobRestrictionContext context = null;
+        QueueItemCache.Entry entry = null;
+        for (RestrictionPolicy policy : policies) {
+            if (!policy.appliesTo(node)) {
+                continue;
+            }
+            if (context == null) {
+                entry = QueueItemCache.get(item);
+                context = new JobRestrictionContext(item, true, entry);
+            }
+            final CauseOfBlockage blockage = getCauseOfBlockage(policy, context, entry);
+            if (blockage != null) {
+                return blockage;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates the policy for the item.
+     * @param policy Policy to be evaluated
+     * @param context Context of the item
+     * @param entry Cache entry of the item. {@code null} if the item is not tracked
+     * @return Cause of blockage. {@code null} if the policy accepts the item
+     */
+    @CheckForNull
+    /*package*/ static CauseOfBlockage getCauseOfBlockage(
+            @NonNull RestrictionPolicy policy,
+            @NonNull JobRestrictionContext context,
+            @CheckForNull QueueItemCache.Entry entry) {
+        final CompiledJobRestriction restriction = policy.getCompiledRestriction();
+        final boolean cacheable = entry != null && restriction.isCacheable();
+        final QueueItemCache.Decision cached = cacheable ? entry.getDecision(restriction) : null;
+        if (cached != null) {
+            return cached.getBlockage();
+        }
+
+        // Evaluations of leaves are recorded in metrics by the compiled restriction
+        final CauseOfBlockage blockage = restriction.getCauseOfBlockage(context);
+        if (context.isPending()) {
+            // Not a final decision, the item will be checked again when the data is resolved
+            return blockage != null ? JobRestrictionBlockageCause.RESOLVING_GROUPS : null;
+        }
+        if (cacheable) {
+            entry.putDecision(restriction, blockage);
+        }
+        return blockage;
+    }
+}
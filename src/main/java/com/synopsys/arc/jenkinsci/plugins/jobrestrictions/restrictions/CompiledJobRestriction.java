@@ -0,0 +1,661 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.FolderPrefixRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameSetRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByUserRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.AndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.AnyJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleAndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleOrJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.NotJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.OrJobRestriction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Queue;
+import io.jenkins.plugins.jobrestrictions.restrictions.job.JobClassNameRestriction;
+import io.jenkins.plugins.jobrestrictions.util.ClassSelector;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Flat representation of a {@link JobRestriction} tree, which is used for {@link Queue} checks.
+ * Built-in logic operations are compiled to a branching program:
+ * each instruction checks a leaf restriction and jumps to the next instruction
+ * depending on the result. {@link NotJobRestriction}s just swap jump targets,
+ * and {@link AnyJobRestriction}s are folded into constant jumps.
+ * So the check is a loop without recursion and allocations, except for the
+ * {@link JobRestrictionContext} shared by all leaves.
+ * The original tree remains the persisted form.
+ * Rejections are explained by {@link JobRestrictionBlockageCause}s of the last evaluated leaves,
+ * which are created once during the compilation.
+ * Evaluations of leaves are recorded in {@link RestrictionMetrics} per leaf type.
+ *
+ * <p>
+ * The compiler also derives a prefilter from the tree: job classes and job name prefixes, which are required
+ * by {@link JobClassNameRestriction}s, {@link RegexNameRestriction}s and {@link FolderPrefixRestriction}s.
+ * Items failing the prefilter are rejected without running the program, which is cheap for nodes
+ * partitioned by job types or folders. Only name and class leaves are checked to explain the rejection.
+ *
+ * <p>
+ * {@link RegexNameRestriction}s within {@link MultipleOrJobRestriction}s are merged into
+ * {@link RegexNameSetRestriction}s, so long lists of expressions are checked by a single pass over the job name.
+ */
+@Restricted(NoExternalUse.class)
+public final class CompiledJobRestriction {
+
+    private static final int ACCEPT = -1;
+    private static final int REJECT = -2;
+
+    /**Outcome, which depends on the data being resolved asynchronously.*/
+    private static final int UNDETERMINED = -3;
+
+    /**Marker of outcomes, which have not been memoized.*/
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    /**
+     * Leaves, which decide by the job and by the causes of the item alone.
+     * Decisions of other leaves may change while the item is waiting, e.g. when group membership changes.
+     */
+    private static final Set<Class<?>> STATELESS_LEAVES = new HashSet<>(Arrays.asList(
+            RegexNameRestriction.class,
+            RegexNameSetRestriction.class,
+            FolderPrefixRestriction.class,
+            JobClassNameRestriction.class,
+            StartedByUserRestriction.class));
+
+    /**
+     * Leaves, which check the job name or class only. They are cheap, and the prefilter is built from them.
+     */
+    private static final Set<Class<?>> PREFILTER_LEAVES = new HashSet<>(Arrays.asList(
+            RegexNameRestriction.class,
+            RegexNameSetRestriction.class,
+            FolderPrefixRestriction.class,
+            JobClassNameRestriction.class));
+
+    /**
+     * Interned compiled restrictions by their sources.
+     * The compiled restriction keeps its source, so the entry is dropped when the compiled restriction is not used.
+     */
+    private static final Map<JobRestriction, WeakReference<CompiledJobRestriction>> INTERNED = new WeakHashMap<>();
+
+    @NonNull
+    private final JobRestriction source;
+
+    @NonNull
+    private final JobRestriction[] leaves;
+
+    @NonNull
+    private final int[] onTrue;
+
+    @NonNull
+    private final int[] onFalse;
+
+    private final int entry;
+
+    /**Recorders of leaf evaluations by the leaf type.*/
+    @NonNull
+    private final RestrictionMetrics.Recorder[] leafMetrics;
+
+    /**{@code true} if all leaves are {@link #STATELESS_LEAVES}.*/
+    private final boolean cacheable;
+
+    /**Blockage causes for leaves, which reject the item if they return {@code true}.*/
+    @NonNull
+    private final JobRestrictionBlockageCause[] causesIfTrue;
+
+    /**Blockage causes for leaves, which reject the item if they return {@code false}.*/
+    @NonNull
+    private final JobRestrictionBlockageCause[] causesIfFalse;
+
+    /**
+     * Job classes, one of which is required. {@code null} if any class may be accepted.
+     * Decisions are cached per {@link Class} like in {@link JobClassNameRestriction}.
+     */
+    @CheckForNull
+    private final ClassValue<Boolean> requiredClasses;
+
+    /**Job name prefixes, one of which is required. {@code null} if any name may be accepted.*/
+    @CheckForNull
+    private final String[] requiredPrefixes;
+
+    private CompiledJobRestriction(
+            @NonNull JobRestriction source,
+            @NonNull JobRestriction[] leaves,
+            @NonNull int[] onTrue,
+            @NonNull int[] onFalse,
+            int entry,
+            @CheckForNull Set<String> requiredClasses,
+            @CheckForNull String[] requiredPrefixes) {
+        this.source = source;
+        this.leaves = leaves;
+        this.onTrue = onTrue;
+        this.onFalse = onFalse;
+        this.entry = entry;
+        this.requiredClasses = requiredClasses != null ? new RequiredClasses(requiredClasses) : null;
+        this.requiredPrefixes = requiredPrefixes;
+        this.causesIfTrue = new JobRestrictionBlockageCause[leaves.length];
+        this.causesIfFalse = new JobRestrictionBlockageCause[leaves.length];
+        this.leafMetrics = new RestrictionMetrics.Recorder[leaves.length];
+        boolean stateless = true;
+        for (int i = 0; i < leaves.length; i++) {
+            stateless &= STATELESS_LEAVES.contains(leaves[i].getClass());
+            leafMetrics[i] = RestrictionMetrics.get()
+                    .recorder(RestrictionMetrics.RESTRICTIONS, leaves[i].getClass().getName());
+            if (onTrue[i] == REJECT) {
+                causesIfTrue[i] = new JobRestrictionBlockageCause.ByRestriction(leaves[i], true);
+            }
+            if (onFalse[i] == REJECT) {
+                causesIfFalse[i] = new JobRestrictionBlockageCause.ByRestriction(leaves[i], false);
+            }
+        }
+        this.cacheable = stateless;
+    }
+
+    /**
+     * Compiles the restriction.
+     * @param restriction Restriction to be compiled
+     * @return Compiled restriction
+     */
+    @NonNull
+    public static CompiledJobRestriction compile(@NonNull JobRestriction restriction) {
+        return new Compiler().compile(restriction);
+    }
+
+    /**
+     * Compiles the restriction or reuses the compiled form of a structurally equal restriction.
+     * Equal trees are common for agents provisioned from the same template.
+     * Their owners should keep the canonical tree from {@link #getSource()}, so copies can be garbage-collected
+     * and decision caches keyed by the compiled restriction are shared.
+     * Restrictions without {@link Object#equals(Object)} are never merged.
+     * @param restriction Restriction to be compiled
+     * @return Compiled restriction, which may be shared
+     */
+    @NonNull
+    public static CompiledJobRestriction intern(@NonNull JobRestriction restriction) {
+        synchronized (INTERNED) {
+            final WeakReference<CompiledJobRestriction> ref = INTERNED.get(restriction);
+            final CompiledJobRestriction cached = ref != null ? ref.get() : null;
+            if (cached != null) {
+                return cached;
+            }
+            final CompiledJobRestriction compiled = compile(restriction);
+            INTERNED.remove(restriction); // the new source should become the key
+            INTERNED.put(restriction, new WeakReference<>(compiled));
+            return compiled;
+        }
+    }
+
+    /**
+     * Gets the restriction, which has been compiled.
+     * @return Source restriction
+     */
+    @NonNull
+    public JobRestriction getSource() {
+        return source;
+    }
+
+    /**
+     * Checks if decisions of the restriction may be cached for the queue item.
+     * It is the case if the restriction consists of built-in leaves, which depend only on the job and on the causes.
+     * @return {@code true} if the decision remains valid while the item and the job are not changed
+     */
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    /*package*/ int getLeafCount() {
+        return leaves.length;
+    }
+
+    /**
+     * Check if the {@link Queue} item can be taken.
+     * @param item An item to be checked
+     * @return true if the restriction accepts the item
+     * @see JobRestriction#canTake(Queue.BuildableItem)
+     */
+    public boolean canTake(@NonNull Queue.BuildableItem item) {
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    /**
+     * Check if the {@link Queue} item can be taken.
+     * @param context Context of the item to be checked
+     * @return true if the restriction accepts the item
+     * @see JobRestriction#canTake(JobRestrictionContext)
+     */
+    public boolean canTake(@NonNull JobRestrictionContext context) {
+        return getCauseOfBlockage(context) == null;
+    }
+
+    /**
+     * Checks the {@link Queue} item and explains the rejection.
+     * Causes are created during the compilation and their messages are rendered lazily,
+     * so the check does not allocate anything.
+     * If a leaf marks the context as pending, the result is settled only if the item would be accepted
+     * or rejected regardless of the pending data. Otherwise, the context remains pending
+     * and {@link JobRestrictionBlockageCause#RESOLVING_GROUPS} is returned.
+     * @param context Context of the item to be checked
+     * @return {@code null} if the restriction accepts the item.
+     *         Otherwise the cause, which refers the restriction that has rejected the item
+     */
+    @CheckForNull
+    public JobRestrictionBlockageCause getCauseOfBlockage(@NonNull JobRestrictionContext context) {
+        if (!mayTake(context)) {
+            final JobRestrictionBlockageCause cause = getPrefilterCause(context);
+            if (cause != null) {
+                return cause;
+            }
+            // The rejection cannot be explained by a single leaf, e.g. by "Or" of names
+        }
+
+        final boolean wasPending = context.isPending();
+        context.setPending(false);
+        final int outcome = run(entry, -1, false, context, null);
+        context.setPending(wasPending || outcome == UNDETERMINED);
+
+        if (outcome == ACCEPT) {
+            return null;
+        }
+        if (outcome == UNDETERMINED) {
+            return JobRestrictionBlockageCause.RESOLVING_GROUPS;
+        }
+        if (outcome == REJECT) {
+            return JobRestrictionBlockageCause.DEFAULT; // Rejects everything
+        }
+        final int leaf = outcome >> 1;
+        return (outcome & 1) != 0 ? causesIfTrue[leaf] : causesIfFalse[leaf];
+    }
+
+    /**
+     * Explains the rejection by the prefilter without running the program.
+     * Only name and class leaves are checked, so slow leaves (e.g. group checks) are not evaluated.
+     * @param context Context of the item, which has been rejected by the prefilter
+     * @return Cause of the first leaf, which rejects the item on its own.
+     *         {@code null} if there is no such leaf
+     */
+    @CheckForNull
+    private JobRestrictionBlockageCause getPrefilterCause(@NonNull JobRestrictionContext context) {
+        for (int i = 0; i < leaves.length; i++) {
+            if (!PREFILTER_LEAVES.contains(leaves[i].getClass())) {
+                continue;
+            }
+            final JobRestrictionBlockageCause cause = leaves[i].canTake(context) ? causesIfTrue[i] : causesIfFalse[i];
+            if (cause != null) {
+                return cause;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs the program from the instruction.
+     * If a leaf cannot decide until the data is resolved, both branches are evaluated.
+     * @param pc Instruction to start from
+     * @param last Last evaluated leaf. {@code -1} if there is no such leaf
+     * @param result Result of the last evaluated leaf
+     * @param context Context of the item
+     * @param memo Outcomes of pending leaves. {@code null} until a pending leaf is found
+     * @return {@link #ACCEPT}, {@link #REJECT}, {@link #UNDETERMINED}
+     *         or {@code leaf * 2 + (result ? 1 : 0)} for the leaf, which has rejected the item
+     */
+    private int run(int pc, int last, boolean result,
+            @NonNull JobRestrictionContext context, @CheckForNull int[] memo) {
+        while (pc >= 0) {
+            if (memo != null && memo[pc] != UNKNOWN) {
+                return memo[pc];
+            }
+            final long startTime = System.nanoTime();
+            result = leaves[pc].canTake(context);
+            final long duration = System.nanoTime() - startTime;
+            leafMetrics[pc].record(duration, (result ? onTrue[pc] : onFalse[pc]) == REJECT, false);
+
+            if (context.isPending()) {
+                context.setPending(false);
+                final int[] outcomes = memo != null ? memo : newMemo();
+                final int ifTrue = run(onTrue[pc], pc, true, context, outcomes);
+                final int ifFalse = run(onFalse[pc], pc, false, context, outcomes);
+                final boolean settled = ifTrue != UNDETERMINED
+                        && ifFalse != UNDETERMINED
+                        && (ifTrue == ACCEPT) == (ifFalse == ACCEPT);
+                outcomes[pc] = settled ? settle(pc, ifTrue, ifFalse) : UNDETERMINED;
+                return outcomes[pc];
+            }
+            last = pc;
+            pc = result ? onTrue[pc] : onFalse[pc];
+        }
+        if (pc == ACCEPT) {
+            return ACCEPT;
+        }
+        return last < 0 ? REJECT : last * 2 + (result ? 1 : 0);
+    }
+
+    /**
+     * Picks the rejection to report if both branches of the pending leaf reject the item.
+     * The rejection by another leaf is preferred, because it does not depend on the pending data.
+     */
+    private static int settle(int pending, int ifTrue, int ifFalse) {
+        if (ifFalse == ACCEPT || ifFalse < 0 || ifFalse >> 1 != pending) {
+            return ifFalse;
+        }
+        return ifTrue;
+    }
+
+    @NonNull
+    private int[] newMemo() {
+        final int[] memo = new int[leaves.length];
+        Arrays.fill(memo, UNKNOWN);
+        return memo;
+    }
+
+    /**
+     * Checks the prefilter of the restriction.
+     * @param context Context of the item to be checked
+     * @return {@code false} if the restriction definitely rejects the item
+     */
+    public boolean mayTake(@NonNull JobRestrictionContext context) {
+        if (requiredClasses != null && !requiredClasses.get(context.getTaskClass())) {
+            return false;
+        }
+        if (requiredPrefixes != null) {
+            final String fullName = context.getFullName();
+            for (String prefix : requiredPrefixes) {
+                if (fullName.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static final class RequiredClasses extends ClassValue<Boolean> {
+
+        @NonNull
+        private final Set<String> classNames;
+
+        RequiredClasses(@NonNull Set<String> classNames) {
+            this.classNames = classNames;
+        }
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return classNames.contains(type.getName());
+        }
+    }
+
+    private static final class Compiler {
+
+        private final List<JobRestriction> leaves = new ArrayList<>();
+        private final List<int[]> targets = new ArrayList<>();
+
+        @NonNull
+        CompiledJobRestriction compile(@NonNull JobRestriction restriction) {
+            final int entry = compile(restriction, ACCEPT, REJECT);
+
+            // Drop leaves, which have been made unreachable by constant folding
+            final int[] mapping = new int[leaves.size()];
+            Arrays.fill(mapping, -1);
+            final List<Integer> order = new ArrayList<>(leaves.size());
+            mark(entry, mapping, order);
+
+            final int size = order.size();
+            final JobRestriction[] compiledLeaves = new JobRestriction[size];
+            final int[] onTrue = new int[size];
+            final int[] onFalse = new int[size];
+            for (int i = 0; i < size; i++) {
+                final int pc = order.get(i);
+                compiledLeaves[i] = leaves.get(pc);
+                onTrue[i] = remap(targets.get(pc)[0], mapping);
+                onFalse[i] = remap(targets.get(pc)[1], mapping);
+            }
+            final Set<String> requiredPrefixes = getRequiredPrefixes(restriction);
+            return new CompiledJobRestriction(
+                    restriction,
+                    compiledLeaves,
+                    onTrue,
+                    onFalse,
+                    remap(entry, mapping),
+                    getRequiredClasses(restriction),
+                    requiredPrefixes != null ? requiredPrefixes.toArray(new String[0]) : null);
+        }
+
+        /**
+         * Gets job classes, one of which is required by the restriction.
+         * @return Class names. {@code null} if the restriction may accept any class
+         */
+        @CheckForNull
+        private static Set<String> getRequiredClasses(@CheckForNull JobRestriction restriction) {
+            if (restriction == null) {
+                return null;
+            }
+
+            final Class<?> type = restriction.getClass();
+            if (type == JobClassNameRestriction.class) {
+                final Set<String> classes = new HashSet<>();
+                for (ClassSelector selector : ((JobClassNameRestriction) restriction).getJobClasses()) {
+                    if (selector.getSelectedClass() != null) {
+                        classes.add(selector.getSelectedClass());
+                    }
+                }
+                return classes;
+            } else if (type == AndJobRestriction.class) {
+                final AndJobRestriction and = (AndJobRestriction) restriction;
+                return intersect(Arrays.asList(and.getFirst(), and.getSecond()), Compiler::getRequiredClasses);
+            } else if (type == MultipleAndJobRestriction.class) {
+                return intersect(
+                        ((MultipleAndJobRestriction) restriction).getRestrictions(), Compiler::getRequiredClasses);
+            } else if (type == OrJobRestriction.class) {
+                final OrJobRestriction or = (OrJobRestriction) restriction;
+                return union(Arrays.asList(or.getFirst(), or.getSecond()), Compiler::getRequiredClasses);
+            } else if (type == MultipleOrJobRestriction.class) {
+                return union(((MultipleOrJobRestriction) restriction).getRestrictions(), Compiler::getRequiredClasses);
+            }
+            return null;
+        }
+
+        /**
+         * Gets job name prefixes, one of which is required by the restriction.
+         * @return Prefixes. {@code null} if the restriction may accept any name
+         */
+        @CheckForNull
+        private static Set<String> getRequiredPrefixes(@CheckForNull JobRestriction restriction) {
+            if (restriction == null) {
+                return null;
+            }
+
+            final Class<?> type = restriction.getClass();
+            if (type == RegexNameRestriction.class) {
+                final String prefix = ((RegexNameRestriction) restriction).getLiteralPrefix();
+                return prefix.isEmpty() ? null : Collections.singleton(prefix);
+            } else if (type == FolderPrefixRestriction.class) {
+                return new HashSet<>(((FolderPrefixRestriction) restriction).getPrefixes());
+            } else if (type == AndJobRestriction.class) {
+                final AndJobRestriction and = (AndJobRestriction) restriction;
+                return any(Arrays.asList(and.getFirst(), and.getSecond()), Compiler::getRequiredPrefixes);
+            } else if (type == MultipleAndJobRestriction.class) {
+                return any(((MultipleAndJobRestriction) restriction).getRestrictions(), Compiler::getRequiredPrefixes);
+            } else if (type == OrJobRestriction.class) {
+                final OrJobRestriction or = (OrJobRestriction) restriction;
+                return union(Arrays.asList(or.getFirst(), or.getSecond()), Compiler::getRequiredPrefixes);
+            } else if (type == MultipleOrJobRestriction.class) {
+                return union(((MultipleOrJobRestriction) restriction).getRestrictions(), Compiler::getRequiredPrefixes);
+            }
+            return null;
+        }
+
+        /**
+         * All conditions of "And" are required.
+         * @return Intersection of known requirements. {@code null} if there are no requirements
+         */
+        @CheckForNull
+        private static Set<String> intersect(
+                @NonNull List<JobRestriction> children, @NonNull Function<JobRestriction, Set<String>> requirement) {
+            Set<String> res = null;
+            for (JobRestriction child : children) {
+                final Set<String> childRequirement = requirement.apply(child);
+                if (childRequirement != null) {
+                    if (res == null) {
+                        res = new HashSet<>(childRequirement);
+                    } else {
+                        res.retainAll(childRequirement);
+                    }
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Any condition of "And" is required. Used for requirements, which cannot be intersected.
+         * @return First known requirement. {@code null} if there are no requirements
+         */
+        @CheckForNull
+        private static Set<String> any(
+                @NonNull List<JobRestriction> children, @NonNull Function<JobRestriction, Set<String>> requirement) {
+            for (JobRestriction child : children) {
+                final Set<String> childRequirement = requirement.apply(child);
+                if (childRequirement != null) {
+                    return childRequirement;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * One of "Or" conditions is required.
+         * @return Union of requirements. {@code null} if any child has no requirements
+         */
+        @CheckForNull
+        private static Set<String> union(
+                @NonNull List<JobRestriction> children, @NonNull Function<JobRestriction, Set<String>> requirement) {
+            if (children.isEmpty()) {
+                return Collections.emptySet(); // Rejects everything
+            }
+            final Set<String> res = new HashSet<>();
+            for (JobRestriction child : children) {
+                final Set<String> childRequirement = requirement.apply(child);
+                if (childRequirement == null) {
+                    return null;
+                }
+                res.addAll(childRequirement);
+            }
+            return res;
+        }
+
+        /**
+         * Emits instructions for the restriction.
+         * Children are compiled from the last to the first one, because the entry point
+         * of the next child is a jump target of the previous one.
+         * @return Entry point of the restriction
+         */
+        private int compile(@CheckForNull JobRestriction restriction, int ifTrue, int ifFalse) {
+            if (restriction == null) {
+                return ifTrue; // Same as JobRestriction.DEFAULT in logic operations
+            }
+
+            // Subclasses of logic operations may override their behavior, hence exact class checks
+            final Class<?> type = restriction.getClass();
+            if (type == AnyJobRestriction.class) {
+                return ifTrue;
+            } else if (type == NotJobRestriction.class) {
+                return compile(((NotJobRestriction) restriction).getRestriction(), ifFalse, ifTrue);
+            } else if (type == AndJobRestriction.class) {
+                final AndJobRestriction and = (AndJobRestriction) restriction;
+                return compile(and.getFirst(), compile(and.getSecond(), ifTrue, ifFalse), ifFalse);
+            } else if (type == OrJobRestriction.class) {
+                final OrJobRestriction or = (OrJobRestriction) restriction;
+                return compile(or.getFirst(), ifTrue, compile(or.getSecond(), ifTrue, ifFalse));
+            } else if (type == MultipleAndJobRestriction.class) {
+                final List<JobRestriction> children = ((MultipleAndJobRestriction) restriction).getRestrictions();
+                int next = ifTrue;
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    next = compile(children.get(i), next, ifFalse);
+                }
+                return next;
+            } else if (type == MultipleOrJobRestriction.class) {
+                final List<JobRestriction> children =
+                        mergeRegexNames(((MultipleOrJobRestriction) restriction).getRestrictions());
+                int next = ifFalse;
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    next = compile(children.get(i), ifTrue, next);
+                }
+                return next;
+            }
+
+            leaves.add(restriction);
+            targets.add(new int[] {ifTrue, ifFalse});
+            return leaves.size() - 1;
+        }
+
+        /**
+         * Merges {@link RegexNameRestriction}s of "Or" into a single {@link RegexNameSetRestriction}.
+         * The merged restriction goes first, it is cheaper than other leaves in general.
+         * @return Children to be compiled
+         */
+        @NonNull
+        private static List<JobRestriction> mergeRegexNames(@NonNull List<JobRestriction> children) {
+            final List<RegexNameRestriction> regexNames = new ArrayList<>();
+            final List<JobRestriction> others = new ArrayList<>();
+            for (JobRestriction child : children) {
+                if (child != null && child.getClass() == RegexNameRestriction.class) {
+                    regexNames.add((RegexNameRestriction) child);
+                } else {
+                    others.add(child);
+                }
+            }
+            if (regexNames.size() < 2) {
+                return children;
+            }
+            others.add(0, new RegexNameSetRestriction(regexNames));
+            return others;
+        }
+
+        private void mark(int pc, int[] mapping, List<Integer> order) {
+            if (pc < 0 || mapping[pc] >= 0) {
+                return;
+            }
+            mapping[pc] = order.size();
+            order.add(pc);
+            mark(targets.get(pc)[0], mapping, order);
+            mark(targets.get(pc)[1], mapping, order);
+        }
+
+        private static int remap(int pc, int[] mapping) {
+            return pc < 0 ? pc : mapping[pc];
+        }
+    }
+}
@@ -45,6 +45,12 @@ public abstract class JobRestriction implements ExtensionPoint, Describable<JobR
 
     public static final JobRestriction DEFAULT = new AnyJobRestriction();
 
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**Cached {@link #getFingerprint()}. {@code 0} if it has not been computed yet.*/
+    private transient volatile long fingerprint;
+
     /**
      * Check if the {@link Queue} item can be taken.
      * This method is being used to check if the {@link Node} can take the
@@ -55,6 +61,19 @@ public abstract class JobRestriction implements ExtensionPoint, Describable<JobR
      */
     public abstract boolean canTake(@NonNull Queue.BuildableItem item);
 
+    /**
+     * Check if the {@link Queue} item can be taken using the data from the context.
+     * The context is shared by all restrictions in the tree during the check,
+     * so the item data gets extracted only once.
+     * Default implementation calls {@link #canTake(hudson.model.Queue.BuildableItem)}.
+     * @param context Context of the item to be checked
+     * @return true if the node can take the item
+     * @since TODO
+     */
+    public boolean canTake(@NonNull JobRestrictionContext context) {
+        return canTake(context.getItem());
+    }
+
     /**
      * Check if the {@link Job} can be executed according to the specified {@link Run}.
      * If the job cannot be executed, it will be aborted by the plugin.
@@ -63,6 +82,65 @@ public abstract class JobRestriction implements ExtensionPoint, Describable<JobR
      */
     public abstract boolean canTake(@NonNull Run run);
 
+    /**
+     * Check if the {@link Job} can be executed according to the build data from the context.
+     * Restrictions, which need only the job name, class or causes, should override this method,
+     * so the build record does not get loaded.
+     * Default implementation loads the {@link Run} and calls {@link #canTake(hudson.model.Run)}.
+     * @param context Context of the build to be checked
+     * @return true if the build can be executed. {@code false} if the build cannot be loaded
+     * @since TODO
+     */
+    public boolean canTake(@NonNull RunRestrictionContext context) {
+        final Run<?, ?> run = context.getRun();
+        return run != null && canTake(run);
+    }
+
+    /**
+     * Gets the content-based fingerprint of the restriction.
+     * Restrictions with the same configuration have the same fingerprint, even if they are different
+     * instances or were loaded on different nodes. The fingerprint may be used as a key for decision caches,
+     * for deduplication and for detection of configuration changes.
+     * The value is computed once and cached, hence the restriction should not be modified after the first call.
+     * @return 64-bit fingerprint of the restriction tree
+     * @since TODO
+     */
+    public final long getFingerprint() {
+        long f = fingerprint;
+        if (f == 0) {
+            f = computeFingerprint();
+            fingerprint = f == 0 ? 1 : f; // 0 is reserved for the uncomputed value
+            f = fingerprint;
+        }
+        return f;
+    }
+
+    /**
+     * Computes the fingerprint of the restriction.
+     * Default implementation hashes the XML representation, which is being persisted to the configuration.
+     * Hence, all non-transient fields including nested restrictions are taken into account.
+     * @return 64-bit fingerprint of the restriction tree
+     * @since TODO
+     */
+    protected long computeFingerprint() {
+        return fingerprint(Jenkins.XSTREAM2.toXML(this));
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of the string.
+     * @param value String to be hashed
+     * @return Hash of the string
+     */
+    /*package*/ static long fingerprint(@NonNull String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
     @Override
     public JobRestrictionDescriptor getDescriptor() {
         return (JobRestrictionDescriptor) Jenkins.get().getDescriptorOrDie(getClass());
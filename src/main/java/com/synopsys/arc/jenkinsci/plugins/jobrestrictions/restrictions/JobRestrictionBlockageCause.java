@@ -23,7 +23,14 @@
  */
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions;
 
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameSetRestriction;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.model.queue.CauseOfBlockage;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 /**
  * A specific blockage cause for {@link JobRestriction}s.
@@ -32,7 +39,15 @@ import hudson.model.queue.CauseOfBlockage;
 public class JobRestrictionBlockageCause extends CauseOfBlockage {
 
     String message;
-    public static final JobRestrictionBlockageCause DEFAULT = new JobRestrictionBlockageCause("");
+    public static final JobRestrictionBlockageCause DEFAULT =
+            new JobRestrictionBlockageCause(Messages.restrictions_BlockCause_DefaultMessage());
+
+    /**
+     * The item cannot be checked until group membership of users is resolved in background.
+     * @since TODO
+     */
+    public static final JobRestrictionBlockageCause RESOLVING_GROUPS =
+            new JobRestrictionBlockageCause(Messages.restrictions_BlockCause_ResolvingGroups());
 
     public JobRestrictionBlockageCause(String message) {
         this.message = message;
@@ -44,6 +59,77 @@ public class JobRestrictionBlockageCause extends CauseOfBlockage {
 
     @Override
     public String getShortDescription() {
-        return message;
+        return getMessage();
+    }
+
+    /**
+     * Blockage by a particular restriction within the tree.
+     * Causes are created once per restriction, and the message is rendered only when requested.
+     * @since TODO
+     */
+    public static final class ByRestriction extends JobRestrictionBlockageCause {
+
+        @NonNull
+        private final JobRestriction restriction;
+
+        private final boolean negated;
+
+        /**
+         * Creates the cause.
+         * @param restriction Restriction, which has blocked the item
+         * @param negated {@code false} if the restriction has rejected the item,
+         *                {@code true} if it has accepted the item, which is prohibited by a {@code Not} operation
+         */
+        @Restricted(NoExternalUse.class)
+        public ByRestriction(@NonNull JobRestriction restriction, boolean negated) {
+            super(null);
+            this.restriction = restriction;
+            this.negated = negated;
+        }
+
+        @NonNull
+        public JobRestriction getRestriction() {
+            return restriction;
+        }
+
+        public boolean isNegated() {
+            return negated;
+        }
+
+        @Override
+        public String getMessage() {
+            String res = message;
+            if (res == null) {
+                final String description = describe(restriction);
+                res = negated
+                        ? Messages.restrictions_BlockCause_AcceptedByNegatedRestriction(description)
+                        : Messages.restrictions_BlockCause_NotAcceptedByRestriction(description);
+                message = res;
+            }
+            return res;
+        }
+
+        @NonNull
+        private static String describe(@NonNull JobRestriction restriction) {
+            if (restriction instanceof RegexNameSetRestriction) {
+                return Messages.restrictions_Job_RegexName() + " " + Messages.restirctions_Stuff_MultipleSuffix();
+            }
+            final String displayName = getDisplayName(restriction);
+            if (restriction instanceof RegexNameRestriction) {
+                return displayName + ": " + ((RegexNameRestriction) restriction).getRegexExpression();
+            }
+            return displayName;
+        }
+
+        @NonNull
+        private static String getDisplayName(@NonNull JobRestriction restriction) {
+            @CheckForNull String displayName = null;
+            try {
+                displayName = restriction.getDescriptor().getDisplayName();
+            } catch (RuntimeException ex) {
+                // Not describable, fallback to the class name
+            }
+            return displayName != null ? displayName : restriction.getClass().getSimpleName();
+        }
     }
 }
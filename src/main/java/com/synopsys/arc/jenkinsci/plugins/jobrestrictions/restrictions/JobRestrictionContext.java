@@ -0,0 +1,240 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueHelper;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Action;
+import hudson.model.Cause;
+import hudson.model.CauseAction;
+import hudson.model.Job;
+import hudson.model.Queue;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Data of the {@link Queue.BuildableItem}, which is being passed through the {@link JobRestriction} tree.
+ * The data is extracted lazily and only once per check, so leaf restrictions do not need to
+ * scan the item on their own.
+ * The context may also describe a task, which is not in the queue,
+ * see {@link #JobRestrictionContext(Queue.Task, List)}.
+ * The context is not thread-safe, it should be used within a single check.
+ * @since TODO
+ */
+public class JobRestrictionContext {
+
+    @NonNull
+    private final Queue.Task task;
+
+    /**Item being checked. Created lazily for tasks, which are not in the queue.*/
+    @CheckForNull
+    private Queue.BuildableItem item;
+
+    @CheckForNull
+    private List<Cause> causes;
+
+    @CheckForNull
+    private String fullName;
+
+    private final boolean asyncResolutionAllowed;
+
+    private boolean pending;
+
+    @CheckForNull
+    private final QueueItemCache.Entry cacheEntry;
+
+    @CheckForNull
+    private Map<Class<?>, Object> itemData;
+
+    public JobRestrictionContext(@NonNull Queue.BuildableItem item) {
+        this(item, false);
+    }
+
+    /**
+     * Creates the context.
+     * @param item Item to be checked
+     * @param asyncResolutionAllowed If {@code true}, restrictions may request slow data
+     *        (e.g. user groups from {@link hudson.security.SecurityRealm}) asynchronously
+     *        instead of loading it within the check. See {@link #markPending()}.
+     */
+    public JobRestrictionContext(@NonNull Queue.BuildableItem item, boolean asyncResolutionAllowed) {
+        this(item, asyncResolutionAllowed, null);
+    }
+
+    /**
+     * Creates the context, which shares the item data through {@link QueueItemCache}.
+     * @param item Item to be checked
+     * @param asyncResolutionAllowed See {@link #JobRestrictionContext(Queue.BuildableItem, boolean)}
+     * @param cacheEntry Cache entry of the item. {@code null} if the item is not tracked
+     */
+    @Restricted(NoExternalUse.class)
+    public JobRestrictionContext(
+            @NonNull Queue.BuildableItem item,
+            boolean asyncResolutionAllowed,
+            @CheckForNull QueueItemCache.Entry cacheEntry) {
+        this.task = item.task;
+        this.item = item;
+        this.asyncResolutionAllowed = asyncResolutionAllowed;
+        this.cacheEntry = cacheEntry;
+    }
+
+    /**
+     * Creates the context of a task, which is not in the queue, e.g. for what-if checks.
+     * Built-in restrictions check such tasks without queue items.
+     * Restrictions, which do not support contexts, require a detached item, see {@link #getItem()}.
+     * @param task Task to be checked
+     * @param causes Causes, with which the task would be scheduled
+     */
+    public JobRestrictionContext(@NonNull Queue.Task task, @NonNull List<Cause> causes) {
+        this.task = task;
+        this.causes = new ArrayList<>(causes);
+        this.asyncResolutionAllowed = false;
+        this.cacheEntry = null;
+    }
+
+    /**
+     * Gets the item being checked.
+     * If the context describes a task, which is not in the queue, a detached item is created on the first call.
+     * It is required only by restrictions, which do not support contexts.
+     * Creating the detached item consumes a queue ID, though the item never enters the queue.
+     * @return Queue item
+     */
+    @NonNull
+    public Queue.BuildableItem getItem() {
+        if (item == null) {
+            final List<Action> actions = new ArrayList<>(1);
+            if (!getCauses().isEmpty()) {
+                actions.add(new CauseAction(getCauses()));
+            }
+            item = new Queue.BuildableItem(new Queue.WaitingItem(Calendar.getInstance(), task, actions));
+        }
+        return item;
+    }
+
+    /**
+     * Gets the task being checked.
+     * @return Task of the item
+     */
+    @NonNull
+    public Queue.Task getTask() {
+        return task;
+    }
+
+    /**
+     * Gets causes of the item.
+     * @return Causes from all {@link CauseAction}s of the item
+     */
+    @NonNull
+    public List<Cause> getCauses() {
+        if (causes == null) {
+            final List<Cause> res = new ArrayList<>();
+            for (Action action : getItem().getActions()) {
+                if (action instanceof CauseAction) {
+                    CauseAction causeAction = (CauseAction) action;
+                    res.addAll(causeAction.getCauses());
+                }
+            }
+            causes = res;
+        }
+        return causes;
+    }
+
+    /**
+     * Gets the full name of the task.
+     * @return String in the {@link Job#getFullName()} format (a/b/c/d)
+     */
+    @NonNull
+    public String getFullName() {
+        if (fullName == null) {
+            fullName = item != null ? QueueHelper.getFullName(item, cacheEntry) : QueueHelper.getFullName(task);
+        }
+        return fullName;
+    }
+
+    /**
+     * Gets the class of the task.
+     * @return Class of {@link Queue.BuildableItem#task}
+     */
+    @NonNull
+    public Class<? extends Queue.Task> getTaskClass() {
+        return task.getClass();
+    }
+
+    /**
+     * Gets the data, which is calculated once per queue item.
+     * If the item is waiting in the queue, the data is shared by checks on all nodes.
+     * @param <T> Type of the data
+     * @param type Type of the data, also used as a key
+     * @param factory Calculates the data if it is not available yet
+     * @return Item data
+     */
+    @NonNull
+    public <T> T getItemData(@NonNull Class<T> type, @NonNull Function<JobRestrictionContext, T> factory) {
+        if (itemData == null) {
+            itemData = new HashMap<>(4);
+        }
+        Object data = itemData.get(type);
+        if (data == null) {
+            data = cacheEntry != null ? cacheEntry.getData(type, () -> factory.apply(this)) : factory.apply(this);
+            itemData.put(type, data);
+        }
+        return type.cast(data);
+    }
+
+    /**
+     * Checks if restrictions may resolve the data asynchronously.
+     * @return {@code true} if restrictions may call {@link #markPending()} instead of loading the data
+     */
+    public boolean isAsyncResolutionAllowed() {
+        return asyncResolutionAllowed;
+    }
+
+    /**
+     * Notifies that the data required by a restriction is being resolved asynchronously.
+     * The result of the check is not final then, and the item should be checked again later.
+     */
+    public void markPending() {
+        pending = true;
+    }
+
+    /*package*/ void setPending(boolean pending) {
+        this.pending = pending;
+    }
+
+    /**
+     * Checks if the result of the check depends on the data, which is being resolved asynchronously.
+     * @return {@code true} if the item should be checked again later
+     */
+    public boolean isPending() {
+        return pending;
+    }
+}
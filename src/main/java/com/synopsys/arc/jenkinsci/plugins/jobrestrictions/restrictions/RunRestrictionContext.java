@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Cause;
+import hudson.model.Job;
+import hudson.model.Run;
+import java.util.List;
+import jenkins.model.Jenkins;
+import jenkins.model.lazy.LazyBuildMixIn;
+
+/**
+ * Data of the {@link Run}, which is being passed through the {@link JobRestriction} tree.
+ * The context may be created from {@link Cause.UpstreamCause}, which already contains the name
+ * of the upstream project, the build number and the upstream causes.
+ * In such case the build record gets loaded only if a restriction calls {@link #getRun()}.
+ * The context is not thread-safe, it should be used within a single check.
+ * @since TODO
+ */
+public class RunRestrictionContext {
+
+    @NonNull
+    private final String fullName;
+
+    private final int number;
+
+    @NonNull
+    private final List<Cause> causes;
+
+    @CheckForNull
+    private Job<?, ?> job;
+
+    private boolean jobResolved;
+
+    @CheckForNull
+    private Run<?, ?> run;
+
+    private boolean runResolved;
+
+    public RunRestrictionContext(@NonNull Run<?, ?> run) {
+        this.fullName = run.getParent().getFullName();
+        this.number = run.getNumber();
+        this.causes = run.getCauses();
+        this.job = run.getParent();
+        this.jobResolved = true;
+        this.run = run;
+        this.runResolved = true;
+    }
+
+    /**
+     * Creates the context of the upstream build without loading it.
+     * @param cause Upstream cause
+     */
+    public RunRestrictionContext(@NonNull Cause.UpstreamCause cause) {
+        this.fullName = cause.getUpstreamProject();
+        this.number = cause.getUpstreamBuild();
+        this.causes = cause.getUpstreamCauses();
+    }
+
+    /**
+     * Gets the full name of the job.
+     * @return String in the {@link Job#getFullName()} format (a/b/c/d)
+     */
+    @NonNull
+    public String getFullName() {
+        return fullName;
+    }
+
+    /**
+     * Gets the build number.
+     * @return Build number
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets causes of the build.
+     * For upstream builds these are the causes recorded in {@link Cause.UpstreamCause},
+     * deeply nested chains may be trimmed there.
+     * @return Causes of the build
+     */
+    @NonNull
+    public List<Cause> getCauses() {
+        return causes;
+    }
+
+    /**
+     * Gets the job of the build without loading the build.
+     * @return Job. {@code null} if it does not exist or is not visible to the current user
+     */
+    @CheckForNull
+    public Job<?, ?> getJob() {
+        if (!jobResolved) {
+            job = Jenkins.get().getItemByFullName(fullName, Job.class);
+            jobResolved = true;
+        }
+        return job;
+    }
+
+    /**
+     * Gets the build. It may load the build record from the disk.
+     * @return Build. {@code null} if it does not exist
+     */
+    @CheckForNull
+    public Run<?, ?> getRun() {
+        if (!runResolved) {
+            final Job<?, ?> j = getJob();
+            run = j != null ? j.getBuildByNumber(number) : null;
+            runResolved = true;
+        }
+        return run;
+    }
+
+    /**
+     * Checks if the build exists.
+     * Jobs with lazy loading are checked by the index of build records, so the build does not get loaded.
+     * @return {@code true} if the build exists
+     */
+    public boolean runExists() {
+        if (runResolved) {
+            return run != null;
+        }
+        final Job<?, ?> j = getJob();
+        if (j instanceof LazyBuildMixIn.LazyLoadingJob) {
+            final LazyBuildMixIn<?, ?> mixIn = ((LazyBuildMixIn.LazyLoadingJob<?, ?>) j).getLazyBuildMixIn();
+            return mixIn._getRuns().runExists(number);
+        }
+        return getRun() != null;
+    }
+}
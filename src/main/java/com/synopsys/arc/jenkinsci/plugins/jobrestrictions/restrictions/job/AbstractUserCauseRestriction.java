@@ -25,14 +25,13 @@
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import hudson.model.Action;
 import hudson.model.Cause;
-import hudson.model.CauseAction;
 import hudson.model.Queue;
 import hudson.model.Run;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -66,66 +65,39 @@ public abstract class AbstractUserCauseRestriction extends JobRestriction {
      */
     protected abstract boolean acceptsUser(@CheckForNull String userId);
 
-    /* package */ boolean canTake(@NonNull List<Cause> causes) {
-        boolean userIdCause = false;
-        boolean rebuildCause = false;
-        boolean upstreamCause = false;
-
-        boolean aUserIdWasNotAccepted = false;
-        boolean userIdCauseExists = false;
-
-        for (@CheckForNull Cause cause : causes) {
-            if (cause == null) {
-                continue; // Protection from the bug in old core versions
-            }
-
-            // Check user causes
-            if (cause.getClass().equals(Cause.UserIdCause.class) && !aUserIdWasNotAccepted) {
-                userIdCauseExists = true;
-                // if several userIdCauses exists, be defensive and don't allow if one is not accepted.
-                final @CheckForNull String startedBy = ((Cause.UserIdCause) cause).getUserId();
-                if (acceptsUser(startedBy)) {
-                    userIdCause = true;
-                } else {
-                    aUserIdWasNotAccepted = true;
-                    userIdCause = false;
-                }
-            }
-
-            // Check upstream projects if required
-            if (checkUpstreamProjects && cause.getClass().equals(Cause.UpstreamCause.class)) {
-                final List<Cause> upstreamCauses = ((Cause.UpstreamCause) cause).getUpstreamCauses();
-                // Recursive call to iterate through all above
-                if (canTake(upstreamCauses)) {
-                    upstreamCause = true;
-                }
-            }
-
-            // TODO: Check rebuild causes
-        }
+    /**
+     * Check if the method accepts the specified user during the {@link Queue} item check.
+     * Default implementation calls {@link #acceptsUser(String)}.
+     * @param userId User id
+     * @param context Context of the check
+     * @return true if the restriction accepts the user
+     * @since TODO
+     */
+    protected boolean acceptsUser(@CheckForNull String userId, @NonNull JobRestrictionContext context) {
+        return acceptsUser(userId);
+    }
 
-        // userId has preceedence
-        if (userIdCauseExists) {
-            return userIdCause;
-        } else { // If no update cause exists we should also return false...
-            return upstreamCause;
-        }
+    /* package */ boolean canTake(@NonNull List<Cause> causes) {
+        return UserCauseChain.of(causes).accepts(this, null);
     }
 
     @Override
     public boolean canTake(Queue.BuildableItem item) {
-        final List<Cause> causes = new ArrayList<>();
-        for (Action action : item.getActions()) {
-            if (action instanceof CauseAction) {
-                CauseAction causeAction = (CauseAction) action;
-                causes.addAll(causeAction.getCauses());
-            }
-        }
-        return canTake(causes);
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
+        return UserCauseChain.of(context).accepts(this, context);
     }
 
     @Override
     public boolean canTake(Run run) {
         return canTake(run.getCauses());
     }
+
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        return canTake(context.getCauses());
+    }
 }
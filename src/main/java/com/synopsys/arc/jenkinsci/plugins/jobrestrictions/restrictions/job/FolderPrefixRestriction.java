@@ -0,0 +1,220 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.FolderSelector;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.model.Queue;
+import hudson.model.Run;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Accepts jobs located within the specified folders, including nested folders.
+ * Folders are stored in a trie of path segments, so {@link Item#getFullName()} is checked
+ * segment by segment without regular expressions.
+ * The check does not depend on the number of configured folders.
+ * @see FolderSelector
+ * @since TODO
+ */
+public class FolderPrefixRestriction extends JobRestriction {
+    private static final long serialVersionUID = 1L;
+
+    /**Selected folders. May be missing in the XML, then it is normalized in {@link #readResolve()}.*/
+    @NonNull
+    private List<FolderSelector> folders;
+
+    /**Root of the segment trie. Lazily initialized.*/
+    @CheckForNull
+    private transient volatile Node root;
+
+    @DataBoundConstructor
+    public FolderPrefixRestriction(@CheckForNull List<FolderSelector> folders) {
+        this.folders = folders != null ? new ArrayList<>(folders) : new ArrayList<>();
+    }
+
+    protected Object readResolve() {
+        if (folders == null) {
+            folders = new ArrayList<>();
+        }
+        return this;
+    }
+
+    @NonNull
+    public List<FolderSelector> getFolders() {
+        return Collections.unmodifiableList(folders);
+    }
+
+    /**
+     * Gets job name prefixes, which are accepted by this restriction.
+     * Prefixes are built from the same segments as the trie, so empty segments are omitted.
+     * @return Full names of the folders with trailing slashes
+     */
+    @NonNull
+    public List<String> getPrefixes() {
+        final List<String> prefixes = new ArrayList<>(folders.size());
+        for (List<String> segments : getSegments()) {
+            prefixes.add(String.join("/", segments) + "/");
+        }
+        return prefixes;
+    }
+
+    /**
+     * Gets path segments of the folders.
+     * Folders may be loaded from XML without normalization, so empty segments are being dropped here.
+     * @return Non-empty segment lists of the folders
+     */
+    @NonNull
+    private List<List<String>> getSegments() {
+        final List<List<String>> res = new ArrayList<>(folders.size());
+        for (FolderSelector folder : folders) {
+            final String selectedFolder = folder != null ? folder.getSelectedFolder() : null;
+            if (selectedFolder == null) {
+                continue;
+            }
+            final List<String> segments = new ArrayList<>();
+            for (String segment : selectedFolder.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(segment);
+                }
+            }
+            if (!segments.isEmpty()) {
+                res.add(segments);
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public boolean canTake(@NonNull Queue.BuildableItem item) {
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(@NonNull JobRestrictionContext context) {
+        return canTake(context.getFullName());
+    }
+
+    @Override
+    public boolean canTake(@NonNull Run run) {
+        return canTake(run.getParent().getFullName());
+    }
+
+    @Override
+    public boolean canTake(@NonNull RunRestrictionContext context) {
+        return canTake(context.getFullName());
+    }
+
+    /**
+     * Checks if the item is located within one of the folders.
+     * @param fullName Full name of the item
+     * @return true if one of the folders contains the item
+     */
+    public boolean canTake(@NonNull String fullName) {
+        Node node = getRoot();
+        int start = 0;
+        int end;
+        while ((end = fullName.indexOf('/', start)) >= 0) {
+            node = node.children.get(fullName.substring(start, end));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false; // The last segment is the name of the item itself
+    }
+
+    @NonNull
+    private Node getRoot() {
+        Node res = root;
+        if (res == null) {
+            res = new Node();
+            for (List<String> segments : getSegments()) {
+                res.add(segments);
+            }
+            root = res;
+        }
+        return res;
+    }
+
+    /**
+     * Node of the segment trie.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        /**Items within this folder are accepted.*/
+        private boolean terminal;
+
+        void add(@NonNull List<String> segments) {
+            Node node = this;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.terminal = true;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final FolderPrefixRestriction other = (FolderPrefixRestriction) obj;
+        return Objects.equals(folders, other.folders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(folders);
+    }
+
+    @Extension
+    public static class DescriptorImpl extends JobRestrictionDescriptor {
+        @Override
+        public String getDisplayName() {
+            return Messages.restrictions_Job_FolderPrefixRestriction_displayName();
+        }
+    }
+}
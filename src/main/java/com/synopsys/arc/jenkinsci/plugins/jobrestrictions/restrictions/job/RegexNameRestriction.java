@@ -25,15 +25,21 @@ package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
-import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueHelper;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import hudson.model.Queue;
 import hudson.model.Run;
 import hudson.util.FormValidation;
+import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.interceptor.RequirePOST;
@@ -45,9 +51,16 @@ import org.kohsuke.stapler.interceptor.RequirePOST;
 public class RegexNameRestriction extends JobRestriction {
     private static final long serialVersionUID = 1L;
 
+    /**Marker for expressions, which cannot be compiled. Such patterns accept any job.*/
+    private static final Pattern INVALID_PATTERN = Pattern.compile("");
+
     String regexExpression;
     boolean checkShortName;
 
+    /**Compiled {@link #regexExpression}. Lazily initialized, {@link #INVALID_PATTERN} for invalid expressions.*/
+    @CheckForNull
+    private transient volatile Pattern pattern;
+
     @DataBoundConstructor
     public RegexNameRestriction(String regexExpression, boolean checkShortName) {
         this.regexExpression = regexExpression;
@@ -64,8 +77,13 @@ public class RegexNameRestriction extends JobRestriction {
 
     @Override
     public boolean canTake(Queue.BuildableItem item) {
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
         // FIXME: switch to  the "getFullName" in the future
-        return canTake(QueueHelper.getFullName(item));
+        return canTake(context.getFullName());
     }
 
     @Override
@@ -73,12 +91,92 @@ public class RegexNameRestriction extends JobRestriction {
         return canTake(run.getParent().getFullName());
     }
 
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        return canTake(context.getFullName());
+    }
+
     public boolean canTake(String projectName) {
+        final Pattern p = getPattern();
+        return p == INVALID_PATTERN || p.matcher(projectName).matches();
+    }
+
+    @NonNull
+    private Pattern getPattern() {
+        Pattern p = pattern;
+        if (p == null) {
+            p = compile(regexExpression);
+            pattern = p;
+        }
+        return p;
+    }
+
+    @NonNull
+    private static Pattern compile(@CheckForNull String regexExpression) {
+        if (regexExpression == null) {
+            return INVALID_PATTERN;
+        }
         try {
-            return projectName.matches(regexExpression);
+            return Pattern.compile(regexExpression);
         } catch (PatternSyntaxException ex) {
-            return true; // Ignore invalid pattern
+            return INVALID_PATTERN; // Ignore invalid pattern
+        }
+    }
+
+    /**
+     * Gets the literal prefix, which is required for all names matching the expression.
+     * @return Literal prefix. Empty string if there is no such prefix or if the expression is invalid
+     * @since TODO
+     */
+    @NonNull
+    @Restricted(NoExternalUse.class)
+    public String getLiteralPrefix() {
+        final Pattern p = getPattern();
+        return p == INVALID_PATTERN ? "" : getLiteralPrefix(p.pattern());
+    }
+
+    /*package*/ static @NonNull String getLiteralPrefix(@NonNull String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return ""; // Alternatives may bypass the prefix
+        }
+
+        final StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                prefix.append(regex.charAt(++i)); // Escaped special character
+            } else if (".[]{}()*+?^$\\".indexOf(c) >= 0) {
+                if ((c == '*' || c == '?' || c == '{') && prefix.length() > 0) {
+                    prefix.setLength(prefix.length() - 1); // The last character is optional
+                }
+                break;
+            } else {
+                prefix.append(c);
+            }
+        }
+        return prefix.toString();
+    }
+
+    protected Object readResolve() {
+        pattern = compile(regexExpression);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
         }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final RegexNameRestriction other = (RegexNameRestriction) obj;
+        return checkShortName == other.checkShortName && Objects.equals(regexExpression, other.regexExpression);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(regexExpression, checkShortName);
     }
 
     @Extension
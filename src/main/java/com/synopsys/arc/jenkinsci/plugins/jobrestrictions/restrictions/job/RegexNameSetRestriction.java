@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Queue;
+import hudson.model.Run;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Accepts jobs, which match any of the {@link RegexNameRestriction}s.
+ * Expressions are stored in a trie of their literal prefixes, so a single pass over the job name
+ * selects the expressions, which may match. Other expressions are not evaluated at all.
+ * This restriction is not describable, it is being produced by {@link CompiledJobRestriction}
+ * for "Or" operations with many regular expressions.
+ */
+@Restricted(NoExternalUse.class)
+public final class RegexNameSetRestriction extends JobRestriction {
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    private final List<RegexNameRestriction> restrictions;
+
+    @NonNull
+    private final Node root;
+
+    public RegexNameSetRestriction(@NonNull List<RegexNameRestriction> restrictions) {
+        this.restrictions = Collections.unmodifiableList(new ArrayList<>(restrictions));
+        final Builder builder = new Builder();
+        for (RegexNameRestriction restriction : restrictions) {
+            builder.add(restriction.getLiteralPrefix(), restriction);
+        }
+        this.root = builder.build();
+    }
+
+    @NonNull
+    public List<RegexNameRestriction> getRestrictions() {
+        return restrictions;
+    }
+
+    @Override
+    public boolean canTake(@NonNull Queue.BuildableItem item) {
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(@NonNull JobRestrictionContext context) {
+        return canTake(context.getFullName());
+    }
+
+    @Override
+    public boolean canTake(@NonNull Run run) {
+        return canTake(run.getParent().getFullName());
+    }
+
+    @Override
+    public boolean canTake(@NonNull RunRestrictionContext context) {
+        return canTake(context.getFullName());
+    }
+
+    public boolean canTake(@NonNull String projectName) {
+        Node node = root;
+        int i = 0;
+        while (true) {
+            for (RegexNameRestriction restriction : node.restrictions) {
+                if (restriction.canTake(projectName)) {
+                    return true;
+                }
+            }
+            if (i == projectName.length()) {
+                return false;
+            }
+            final int child = Arrays.binarySearch(node.keys, projectName.charAt(i++));
+            if (child < 0) {
+                return false;
+            }
+            node = node.children[child];
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final RegexNameSetRestriction other = (RegexNameSetRestriction) obj;
+        return Objects.equals(restrictions, other.restrictions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(restrictions);
+    }
+
+    /**
+     * Trie node. Expressions are stored in the node of their literal prefix.
+     */
+    private static final class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**Sorted characters of child nodes.*/
+        @NonNull
+        private final char[] keys;
+
+        @NonNull
+        private final Node[] children;
+
+        @NonNull
+        private final RegexNameRestriction[] restrictions;
+
+        Node(@NonNull char[] keys, @NonNull Node[] children, @NonNull RegexNameRestriction[] restrictions) {
+            this.keys = keys;
+            this.children = children;
+            this.restrictions = restrictions;
+        }
+    }
+
+    private static final class Builder {
+
+        private final Map<Character, Builder> children = new TreeMap<>();
+        private final List<RegexNameRestriction> restrictions = new ArrayList<>();
+
+        void add(@NonNull String prefix, @NonNull RegexNameRestriction restriction) {
+            Builder node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Builder());
+            }
+            node.restrictions.add(restriction);
+        }
+
+        @NonNull
+        Node build() {
+            final char[] keys = new char[children.size()];
+            final Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i++] = child.getValue().build();
+            }
+            return new Node(keys, nodes, restrictions.toArray(new RegexNameRestriction[0]));
+        }
+    }
+}
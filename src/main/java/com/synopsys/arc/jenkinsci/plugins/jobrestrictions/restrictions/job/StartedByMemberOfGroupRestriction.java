@@ -24,9 +24,13 @@
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.CompactStringSet;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.GroupSelector;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserAuthoritiesCache;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -35,9 +39,8 @@ import hudson.model.Queue;
 import hudson.model.User;
 import hudson.security.SecurityRealm;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 import jenkins.model.Jenkins;
 import org.acegisecurity.GrantedAuthority;
 import org.acegisecurity.userdetails.UserDetails;
@@ -49,6 +52,7 @@ import org.springframework.dao.DataAccessException;
  * {@link JobRestriction}, which checks if a user belongs to the specified groups.
  * In several cases the extension may load user data from {@link SecurityRealm},
  * so there can be significant delays in Jenkins {@link Queue}.
+ * Loaded groups are cached in {@link UserAuthoritiesCache}.
  * @author Christopher Suarez
  * @author Oleg Nenashev
  * @since 0.4
@@ -62,41 +66,82 @@ public class StartedByMemberOfGroupRestriction extends AbstractUserCauseRestrict
 
     private final List<GroupSelector> groupList;
 
-    private transient Set<String> acceptedGroups = null;
+    /**Immutable set of {@link #groupList} IDs, built at construction and deserialization.*/
+    private transient volatile CompactStringSet acceptedGroups;
+
+    /**Set when any instance has been created, enables {@link UserAuthoritiesPrefetcher}.*/
+    private static volatile boolean inUse;
 
     @DataBoundConstructor
     public StartedByMemberOfGroupRestriction(List<GroupSelector> groupList, boolean checkUpstreamProjects) {
         super(checkUpstreamProjects);
         this.groupList = groupList;
+        this.acceptedGroups = toGroupIds(groupList);
+        markInUse();
+    }
+
+    protected Object readResolve() {
+        acceptedGroups = toGroupIds(groupList);
+        markInUse();
+        return this;
+    }
+
+    private static void markInUse() {
+        inUse = true;
+    }
+
+    /*package*/ static boolean isInUse() {
+        return inUse;
     }
 
     public List<GroupSelector> getGroupList() {
         return groupList;
     }
 
-    private synchronized @NonNull Set<String> getAcceptedGroups() {
-        if (acceptedGroups == null) {
-            final List<GroupSelector> selectors = getGroupList();
-            acceptedGroups = new HashSet<>(selectors.size());
-            for (GroupSelector selector : selectors) {
-                // merge equal entries
-                acceptedGroups.add(selector.getSelectedGroupId());
-            }
-        }
+    private @NonNull CompactStringSet getAcceptedGroups() {
         return acceptedGroups;
     }
 
+    private static @NonNull CompactStringSet toGroupIds(@CheckForNull List<GroupSelector> selectors) {
+        if (selectors == null) {
+            return CompactStringSet.of(null);
+        }
+        final List<String> groupIds = new ArrayList<>(selectors.size());
+        for (GroupSelector selector : selectors) {
+            groupIds.add(selector.getSelectedGroupId());
+        }
+        return CompactStringSet.of(groupIds); // merges equal entries
+    }
+
     @Override
     protected boolean acceptsUser(@CheckForNull String userId) {
         if (userId == null) {
             return false;
         }
-        final @CheckForNull List<String> authorities = getAuthorities(userId);
+        return acceptsAuthorities(getAuthorities(userId));
+    }
+
+    @Override
+    protected boolean acceptsUser(@CheckForNull String userId, @NonNull JobRestrictionContext context) {
+        if (userId == null || !context.isAsyncResolutionAllowed() || !UserAuthoritiesPrefetcher.isEnabled()) {
+            return acceptsUser(userId);
+        }
+
+        final @CheckForNull UserAuthoritiesCache.Entry cached = UserAuthoritiesCache.get().getIfPresent(userId);
+        if (cached == null) {
+            UserAuthoritiesPrefetcher.prefetch(userId);
+            context.markPending();
+            return false;
+        }
+        return acceptsAuthorities(cached.getAuthorities());
+    }
+
+    private boolean acceptsAuthorities(@CheckForNull List<String> authorities) {
         if (authorities == null) {
             return false;
         }
 
-        final Set<String> allowedGroups = getAcceptedGroups();
+        final CompactStringSet allowedGroups = getAcceptedGroups();
         for (String groupId : authorities) {
             if (allowedGroups.contains(groupId)) {
                 return true;
@@ -105,6 +150,15 @@ public class StartedByMemberOfGroupRestriction extends AbstractUserCauseRestrict
         return false;
     }
 
+    /**
+     * Gets group lists for the user from {@link UserAuthoritiesCache}.
+     * @param userId User ID
+     * @return List of effective groups. {@code null} if there's no info
+     */
+    private static @CheckForNull List<String> getAuthorities(@NonNull String userId) {
+        return UserAuthoritiesCache.get().getAuthorities(userId, StartedByMemberOfGroupRestriction::loadAuthorities);
+    }
+
     /**
      * Loads group lists for the user.
      * {@link User} info has a high priority. If there is no info, {@link UserDetails}
@@ -112,7 +166,16 @@ public class StartedByMemberOfGroupRestriction extends AbstractUserCauseRestrict
      * @param userId User ID
      * @return List of effective groups. {@code null} if there's no info
      */
-    private static @CheckForNull List<String> getAuthorities(@NonNull String userId) {
+    /*package*/ static @CheckForNull List<String> loadAuthorities(@NonNull String userId) {
+        final long startTime = System.nanoTime();
+        final List<String> authorities = resolveAuthorities(userId);
+        final long duration = System.nanoTime() - startTime;
+        final String realm = Jenkins.get().getSecurityRealm().getClass().getName();
+        RestrictionMetrics.get().record(RestrictionMetrics.REALM, realm, duration, authorities == null, false);
+        return authorities;
+    }
+
+    private static @CheckForNull List<String> resolveAuthorities(@NonNull String userId) {
         final @CheckForNull User usr = User.getById(userId, false);
         if (usr == null) { // User is not registered in Jenkins (e.g. deleted)
             return getAuthoritiesFromRealm(userId);
@@ -153,6 +216,24 @@ public class StartedByMemberOfGroupRestriction extends AbstractUserCauseRestrict
         return authorityList;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final StartedByMemberOfGroupRestriction other = (StartedByMemberOfGroupRestriction) obj;
+        return isCheckUpstreamProjects() == other.isCheckUpstreamProjects()
+                && Objects.equals(groupList, other.groupList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupList, isCheckUpstreamProjects());
+    }
+
     @Extension
     public static class DescriptorImpl extends JobRestrictionDescriptor {
 
@@ -26,14 +26,15 @@ package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.CompactStringSet;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserSelector;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.Extension;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -55,7 +56,9 @@ public class StartedByUserRestriction extends AbstractUserCauseRestriction {
     private final @Deprecated boolean acceptAutomaticRuns;
 
     private final boolean acceptAnonymousUsers;
-    private transient Set<String> acceptedUsers = null;
+
+    /**Immutable set of {@link #usersList} IDs, built at construction and deserialization.*/
+    private transient volatile CompactStringSet acceptedUsers;
 
     @DataBoundConstructor
     public StartedByUserRestriction(
@@ -67,6 +70,12 @@ public class StartedByUserRestriction extends AbstractUserCauseRestriction {
         this.usersList = usersList;
         this.acceptAutomaticRuns = acceptAutomaticRuns;
         this.acceptAnonymousUsers = acceptAnonymousUsers;
+        this.acceptedUsers = toUserIds(usersList);
+    }
+
+    protected Object readResolve() {
+        acceptedUsers = toUserIds(usersList);
+        return this;
     }
 
     public List<UserSelector> getUsersList() {
@@ -81,22 +90,46 @@ public class StartedByUserRestriction extends AbstractUserCauseRestriction {
         return acceptAnonymousUsers;
     }
 
-    private synchronized @NonNull Set<String> getAcceptedUsers() {
-        if (acceptedUsers == null) {
-            final List<UserSelector> selectors = getUsersList();
-            acceptedUsers = new HashSet<>(selectors.size());
-            for (UserSelector selector : selectors) {
-                acceptedUsers.add(selector.getSelectedUserId()); // merge equal entries
-            }
-        }
+    private @NonNull CompactStringSet getAcceptedUsers() {
         return acceptedUsers;
     }
 
+    private static @NonNull CompactStringSet toUserIds(@CheckForNull List<UserSelector> selectors) {
+        if (selectors == null) {
+            return CompactStringSet.of(null);
+        }
+        final List<String> userIds = new ArrayList<>(selectors.size());
+        for (UserSelector selector : selectors) {
+            userIds.add(selector.getSelectedUserId());
+        }
+        return CompactStringSet.of(userIds); // merges equal entries
+    }
+
     @Override
     protected boolean acceptsUser(@CheckForNull String userId) {
         return userId == null ? acceptAnonymousUsers : getAcceptedUsers().contains(userId);
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final StartedByUserRestriction other = (StartedByUserRestriction) obj;
+        return isCheckUpstreamProjects() == other.isCheckUpstreamProjects()
+                && acceptAutomaticRuns == other.acceptAutomaticRuns
+                && acceptAnonymousUsers == other.acceptAnonymousUsers
+                && Objects.equals(usersList, other.usersList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(usersList, isCheckUpstreamProjects(), acceptAutomaticRuns, acceptAnonymousUsers);
+    }
+
     @Extension
     public static class DescriptorImpl extends JobRestrictionDescriptor {
 
@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserAuthoritiesCache;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Action;
+import hudson.model.CauseAction;
+import hudson.model.Queue;
+import hudson.model.queue.QueueListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Resolves authorities of users, who started queued items, in background.
+ * So {@link StartedByMemberOfGroupRestriction} does not need to call {@link hudson.security.SecurityRealm}
+ * within the {@link Queue} lock.
+ * The prefetch starts when an item enters the queue. If the check happens before the data arrives,
+ * the restriction asks to check the item later.
+ * @see JobRestrictionsConfiguration#isAsyncAuthoritiesResolution()
+ */
+@Restricted(NoExternalUse.class)
+public final class UserAuthoritiesPrefetcher {
+
+    private static final Logger LOGGER = Logger.getLogger(UserAuthoritiesPrefetcher.class.getName());
+
+    private static final int THREADS = Integer.getInteger(UserAuthoritiesPrefetcher.class.getName() + ".threads", 4);
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREADS,
+            THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamingThreadFactory(new DaemonThreadFactory(), "Job Restrictions user authorities prefetch"));
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**Users, for which the resolution is in progress.*/
+    private static final Set<String> IN_PROGRESS = ConcurrentHashMap.newKeySet();
+
+    private UserAuthoritiesPrefetcher() {}
+
+    /**
+     * Checks if the asynchronous resolution is enabled.
+     * It requires {@link UserAuthoritiesCache} to be enabled, because the results are being stored there.
+     * @return {@code true} if authorities can be resolved in background
+     */
+    public static boolean isEnabled() {
+        return JobRestrictionsConfiguration.get().isAsyncAuthoritiesResolution() && UserAuthoritiesCache.isEnabled();
+    }
+
+    /**
+     * Schedules the resolution of user authorities if it is not in progress.
+     * {@link Queue} maintenance is being scheduled when the authorities are stored in the cache.
+     * @param userId User ID
+     */
+    public static void prefetch(@NonNull String userId) {
+        if (!IN_PROGRESS.add(userId)) {
+            return;
+        }
+        try {
+            EXECUTOR.execute(() -> resolve(userId));
+        } catch (RejectedExecutionException ex) {
+            IN_PROGRESS.remove(userId);
+            LOGGER.log(Level.WARNING, "Cannot schedule the resolution of authorities for " + userId, ex);
+        }
+    }
+
+    private static void resolve(@NonNull String userId) {
+        @CheckForNull List<String> authorities = null;
+        try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
+            authorities = StartedByMemberOfGroupRestriction.loadAuthorities(userId);
+        } catch (RuntimeException ex) {
+            // Store the missing info, otherwise the item will be waiting for the data forever
+            LOGGER.log(Level.WARNING, "Cannot resolve authorities for " + userId, ex);
+        } finally {
+            UserAuthoritiesCache.get().put(userId, authorities);
+            IN_PROGRESS.remove(userId);
+        }
+        Queue.getInstance().scheduleMaintenance();
+    }
+
+    @Extension
+    public static class QueueListenerImpl extends QueueListener {
+
+        @Override
+        public void onEnterWaiting(Queue.WaitingItem wi) {
+            if (!StartedByMemberOfGroupRestriction.isInUse() || !isEnabled()) {
+                return;
+            }
+
+            final Set<String> userIds = new HashSet<>();
+            for (Action action : wi.getActions()) {
+                if (action instanceof CauseAction) {
+                    UserCauseChain.of(((CauseAction) action).getCauses()).collectUserIds(userIds);
+                }
+            }
+            for (String userId : userIds) {
+                if (UserAuthoritiesCache.get().getIfPresent(userId) == null) {
+                    prefetch(userId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Cause;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Users, who have started the build directly or through the chain of upstream builds.
+ * The chain is extracted from causes once and then shared by all {@link AbstractUserCauseRestriction}s.
+ * Equal upstream chains are merged, so wide fan-outs of upstream causes are checked only once.
+ */
+@Restricted(NoExternalUse.class)
+public final class UserCauseChain {
+
+    private static final UserCauseChain EMPTY = new UserCauseChain(Collections.emptySet(), Collections.emptySet());
+
+    /**IDs of users from {@link Cause.UserIdCause}s. May contain {@code null} for anonymous users.*/
+    @NonNull
+    private final Set<String> userIds;
+
+    /**Chains of {@link Cause.UpstreamCause}s.*/
+    @NonNull
+    private final Set<UserCauseChain> upstreamChains;
+
+    private final int hashCode;
+
+    private UserCauseChain(@NonNull Set<String> userIds, @NonNull Set<UserCauseChain> upstreamChains) {
+        this.userIds = userIds;
+        this.upstreamChains = upstreamChains;
+        this.hashCode = Objects.hash(userIds, upstreamChains);
+    }
+
+    /**
+     * Extracts the chain from causes.
+     * @param causes Causes of the item or the run
+     * @return User cause chain
+     */
+    @NonNull
+    public static UserCauseChain of(@NonNull List<Cause> causes) {
+        Set<String> userIds = null;
+        Set<UserCauseChain> upstreamChains = null;
+        for (@CheckForNull Cause cause : causes) {
+            if (cause == null) {
+                continue; // Protection from the bug in old core versions
+            }
+
+            if (cause.getClass().equals(Cause.UserIdCause.class)) {
+                if (userIds == null) {
+                    userIds = new HashSet<>();
+                }
+                userIds.add(((Cause.UserIdCause) cause).getUserId());
+            } else if (cause.getClass().equals(Cause.UpstreamCause.class)) {
+                if (upstreamChains == null) {
+                    upstreamChains = new LinkedHashSet<>();
+                }
+                upstreamChains.add(of(((Cause.UpstreamCause) cause).getUpstreamCauses()));
+            }
+
+            // TODO: Check rebuild causes
+        }
+
+        if (userIds == null && upstreamChains == null) {
+            return EMPTY;
+        }
+        return new UserCauseChain(
+                userIds != null ? userIds : Collections.emptySet(),
+                upstreamChains != null ? upstreamChains : Collections.emptySet());
+    }
+
+    /**
+     * Gets the chain of the item being checked.
+     * The chain is being calculated once per queue item.
+     * @param context Context of the check
+     * @return User cause chain
+     */
+    @NonNull
+    public static UserCauseChain of(@NonNull JobRestrictionContext context) {
+        return context.getItemData(UserCauseChain.class, ctx -> of(ctx.getCauses()));
+    }
+
+    /**
+     * Collects IDs of all users in the chain.
+     * @param target Set to be populated. Anonymous users are skipped
+     */
+    public void collectUserIds(@NonNull Set<String> target) {
+        for (String userId : userIds) {
+            if (userId != null) {
+                target.add(userId);
+            }
+        }
+        for (UserCauseChain upstream : upstreamChains) {
+            upstream.collectUserIds(target);
+        }
+    }
+
+    /**
+     * Checks the chain against the restriction.
+     * If there are users, who started the build directly, all of them should be accepted.
+     * Otherwise, at least one of upstream chains should be accepted, if the restriction checks them.
+     * @param restriction Restriction to be checked
+     * @param context Context of the queue item check. {@code null} for {@link hudson.model.Run} checks
+     * @return true if the restriction accepts the chain
+     */
+    /*package*/ boolean accepts(
+            @NonNull AbstractUserCauseRestriction restriction, @CheckForNull JobRestrictionContext context) {
+        // userId has precedence
+        if (!userIds.isEmpty()) {
+            // if several userIdCauses exists, be defensive and don't allow if one is not accepted.
+            for (String userId : userIds) {
+                if (!(context != null ? restriction.acceptsUser(userId, context) : restriction.acceptsUser(userId))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (restriction.isCheckUpstreamProjects()) {
+            for (UserCauseChain upstream : upstreamChains) {
+                if (upstream.accepts(restriction, context)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof UserCauseChain) {
+            UserCauseChain cmp = (UserCauseChain) obj;
+            return hashCode == cmp.hashCode
+                    && userIds.equals(cmp.userIds)
+                    && upstreamChains.equals(cmp.upstreamChains);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
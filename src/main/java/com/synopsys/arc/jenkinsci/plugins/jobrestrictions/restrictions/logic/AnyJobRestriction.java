@@ -25,7 +25,9 @@ package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
 import hudson.Extension;
 import hudson.model.Queue;
 import hudson.model.Run;
@@ -46,11 +48,31 @@ public class AnyJobRestriction extends JobRestriction {
         return true;
     }
 
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
+        return true;
+    }
+
     @Override
     public boolean canTake(Run run) {
         return true;
     }
 
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null && getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().getName().hashCode();
+    }
+
     @Extension(ordinal = 1000)
     public static class DescriptorImpl extends JobRestrictionDescriptor {
         @Override
@@ -25,11 +25,14 @@ package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
 import hudson.Extension;
 import hudson.model.Queue;
 import hudson.model.Run;
 import java.util.ArrayList;
+import java.util.Objects;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -61,16 +64,48 @@ public class MultipleOrJobRestriction extends JobRestriction {
         return false;
     }
 
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        for (JobRestriction restriction : restrictions) {
+            if (restriction.canTake(context)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean canTake(Queue.BuildableItem item) {
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
         for (JobRestriction restriction : restrictions) {
-            if (restriction.canTake(item)) {
+            if (restriction.canTake(context)) {
                 return true;
             }
         }
         return false;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final MultipleOrJobRestriction other = (MultipleOrJobRestriction) obj;
+        return Objects.equals(restrictions, other.restrictions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(restrictions);
+    }
+
     @Extension
     public static class DescriptorImpl extends JobRestrictionDescriptor {
         @Override
@@ -27,10 +27,13 @@ import static com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.Jo
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
 import hudson.Extension;
 import hudson.model.Queue;
 import hudson.model.Run;
+import java.util.Objects;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -53,7 +56,12 @@ public class NotJobRestriction extends JobRestriction {
 
     @Override
     public boolean canTake(Queue.BuildableItem item) {
-        return !restriction.canTake(item);
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
+        return !restriction.canTake(context);
     }
 
     @Override
@@ -61,6 +69,28 @@ public class NotJobRestriction extends JobRestriction {
         return !restriction.canTake(run);
     }
 
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        return !restriction.canTake(context);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final NotJobRestriction other = (NotJobRestriction) obj;
+        return Objects.equals(restriction, other.restriction);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(restriction);
+    }
+
     @Extension
     public static class DescriptorImpl extends JobRestrictionDescriptor {
         @Override
@@ -27,10 +27,13 @@ import static com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.Jo
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
 import hudson.Extension;
 import hudson.model.Queue;
 import hudson.model.Run;
+import java.util.Objects;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -60,7 +63,12 @@ public class OrJobRestriction extends JobRestriction {
 
     @Override
     public boolean canTake(Queue.BuildableItem item) {
-        return first.canTake(item) || second.canTake(item);
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
+        return first.canTake(context) || second.canTake(context);
     }
 
     @Override
@@ -68,6 +76,29 @@ public class OrJobRestriction extends JobRestriction {
         return first.canTake(run) && second.canTake(run);
     }
 
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        // Keeps the behavior of canTake(Run) for upstream builds
+        return first.canTake(context) && second.canTake(context);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final OrJobRestriction other = (OrJobRestriction) obj;
+        return Objects.equals(first, other.first) && Objects.equals(second, other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
     @Extension
     public static class DescriptorImpl extends JobRestrictionDescriptor {
         @Override
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Immutable set of strings with open addressing.
+ * Unlike {@link java.util.HashSet}, it does not allocate an entry object per element,
+ * so large allowlists (e.g. thousands of users) take less memory.
+ * Hashes of elements are stored in the table, so lookups compare strings only if their hashes match.
+ * {@code null} elements are ignored.
+ */
+@Restricted(NoExternalUse.class)
+public final class CompactStringSet {
+
+    private static final CompactStringSet EMPTY = new CompactStringSet(new String[1], new int[1], 0);
+
+    /**Table of elements, the size is a power of two. At least a half of slots is empty.*/
+    @NonNull
+    private final String[] keys;
+
+    @NonNull
+    private final int[] hashes;
+
+    private final int size;
+
+    private CompactStringSet(@NonNull String[] keys, @NonNull int[] hashes, int size) {
+        this.keys = keys;
+        this.hashes = hashes;
+        this.size = size;
+    }
+
+    /**
+     * Creates the set.
+     * @param values Elements, duplicates are merged
+     * @return Immutable set
+     */
+    @NonNull
+    public static CompactStringSet of(@CheckForNull Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+
+        int capacity = 2;
+        while (capacity < values.size() * 2) {
+            capacity <<= 1;
+        }
+        final String[] keys = new String[capacity];
+        final int[] hashes = new int[capacity];
+        int size = 0;
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            final int hash = hash(value);
+            int slot = hash & (capacity - 1);
+            while (keys[slot] != null && !(hashes[slot] == hash && keys[slot].equals(value))) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            if (keys[slot] == null) {
+                keys[slot] = value;
+                hashes[slot] = hash;
+                size++;
+            }
+        }
+        return new CompactStringSet(keys, hashes, size);
+    }
+
+    /**
+     * Checks if the set contains the value.
+     * @param value Value to be checked
+     * @return {@code true} if the set contains the value. {@code false} for {@code null}
+     */
+    public boolean contains(@CheckForNull String value) {
+        if (value == null || size == 0) {
+            return false;
+        }
+
+        final int mask = keys.length - 1;
+        final int hash = hash(value);
+        int slot = hash & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key == value || hashes[slot] == hash && key.equals(value)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of elements.
+     * @return Number of distinct non-null elements
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int hash(@NonNull String value) {
+        // String caches its hash code, spread higher bits for small tables
+        final int h = value.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import hudson.model.Item;
+import hudson.model.ItemGroup;
+import hudson.util.FormValidation;
+import java.io.Serializable;
+import java.util.Objects;
+import jenkins.model.Jenkins;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.interceptor.RequirePOST;
+
+/**
+ * Describable Item, which allows to select a folder by its full name.
+ * Leading and trailing slashes are being removed.
+ * @since TODO
+ */
+public class FolderSelector implements Describable<FolderSelector>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**Full name of the folder*/
+    @CheckForNull
+    final String selectedFolder;
+
+    @DataBoundConstructor
+    public FolderSelector(@CheckForNull String selectedFolder) {
+        this.selectedFolder = normalize(selectedFolder);
+    }
+
+    @CheckForNull
+    public String getSelectedFolder() {
+        return selectedFolder;
+    }
+
+    @CheckForNull
+    private static String normalize(@CheckForNull String folder) {
+        String res = Util.fixEmptyAndTrim(folder);
+        while (res != null && res.startsWith("/")) {
+            res = Util.fixEmpty(res.substring(1));
+        }
+        while (res != null && res.endsWith("/")) {
+            res = Util.fixEmpty(res.substring(0, res.length() - 1));
+        }
+        return res;
+    }
+
+    @Override
+    public Descriptor<FolderSelector> getDescriptor() {
+        return DESCRIPTOR;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof FolderSelector) {
+            FolderSelector cmp = (FolderSelector) obj;
+            return Objects.equals(selectedFolder, cmp.selectedFolder);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 17 * hash + (selectedFolder != null ? selectedFolder.hashCode() : 0);
+        return hash;
+    }
+
+    @Extension
+    public static final DescriptorImpl DESCRIPTOR = new DescriptorImpl();
+
+    public static class DescriptorImpl extends Descriptor<FolderSelector> {
+
+        @NonNull
+        @Override
+        public String getDisplayName() {
+            return "N/A";
+        }
+
+        @RequirePOST
+        public FormValidation doCheckSelectedFolder(@QueryParameter String selectedFolder) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            final String folder = normalize(selectedFolder);
+            if (folder == null) {
+                return FormValidation.error("Field is empty");
+            }
+
+            final Item item = Jenkins.get().getItemByFullName(folder);
+            if (!(item instanceof ItemGroup)) {
+                return FormValidation.warning("Folder " + folder + " does not exist");
+            }
+            return FormValidation.ok();
+        }
+    }
+}
@@ -23,10 +23,13 @@
  */
 package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.model.Item;
 import hudson.model.Job;
 import hudson.model.Queue;
+import java.util.ArrayList;
+import java.util.List;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
@@ -34,31 +37,78 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
  * Provides additional for Queue objects.
  * @author Oleg Nenashev
  */
-@Restricted(NoExternalUse.class)
 public class QueueHelper {
 
-    // TODO: Optimize by StringBuilder
     /**
-     * Generates job-style project name for the buildable item
-     * @deprecated Just a hack, will be removed in the future versions
+     * Generates job-style project name for the buildable item.
+     * For tasks, which are not {@link Item}s (e.g. Pipeline steps or Matrix configurations),
+     * names of owner tasks are being prepended.
+     * If the item is waiting in the {@link Queue}, the name is calculated once and then shared by all checks.
      * @param item Item, for which the name should be retrieved
      * @return String in the {@link Job#getFullName()} format (a/b/c/d)
+     * @since TODO
      */
-    @Deprecated
+    @NonNull
     public static String getFullName(@NonNull Queue.BuildableItem item) {
-        Queue.Task current = item.task;
-        String res = getItemName(current);
+        return getFullName(item, QueueItemCache.get(item));
+    }
+
+    /**
+     * Generates job-style project name for the buildable item.
+     * @param item Item, for which the name should be retrieved
+     * @param cacheEntry Cache entry of the item. {@code null} if the item is not tracked
+     * @return String in the {@link Job#getFullName()} format (a/b/c/d)
+     */
+    @NonNull
+    @Restricted(NoExternalUse.class)
+    public static String getFullName(@NonNull Queue.BuildableItem item, @CheckForNull QueueItemCache.Entry cacheEntry) {
+        if (cacheEntry == null) {
+            return calculateFullName(item.task);
+        }
+        return cacheEntry.getData(FullName.class, () -> new FullName(calculateFullName(item.task))).value;
+    }
+
+    /**
+     * Generates job-style project name for the task, which is not in the {@link Queue}.
+     * @param task Task, for which the name should be retrieved
+     * @return String in the {@link Job#getFullName()} format (a/b/c/d)
+     */
+    @NonNull
+    @Restricted(NoExternalUse.class)
+    public static String getFullName(@NonNull Queue.Task task) {
+        return calculateFullName(task);
+    }
 
-        // this is only executed if we didn't call Item.getFullName() in getItemName
+    @NonNull
+    private static String calculateFullName(@NonNull Queue.Task task) {
+        if (task instanceof Item) {
+            return ((Item) task).getFullName();
+        }
+
+        // Collect names up to the first Item, which provides the full name on its own
+        final List<String> names = new ArrayList<>(4);
+        names.add(task.getName());
+        int length = names.get(0).length();
+        Queue.Task current = task;
         while (!(current instanceof Item)) {
-            Queue.Task parent = current.getOwnerTask();
+            final Queue.Task parent = current.getOwnerTask();
             if (parent == current) {
                 break;
             }
-            res = getItemName(parent) + "/" + res;
+            final String name = getItemName(parent);
+            names.add(name);
+            length += name.length() + 1;
             current = parent;
         }
-        return res;
+
+        final StringBuilder res = new StringBuilder(length);
+        for (int i = names.size() - 1; i >= 0; i--) {
+            res.append(names.get(i));
+            if (i > 0) {
+                res.append('/');
+            }
+        }
+        return res.toString();
     }
 
     private static String getItemName(Queue.Task task) {
@@ -69,4 +119,17 @@ public class QueueHelper {
             return task.getName();
         }
     }
+
+    /**
+     * Wrapper, which is used as a key in {@link QueueItemCache}.
+     */
+    private static final class FullName {
+
+        @NonNull
+        private final String value;
+
+        FullName(@NonNull String value) {
+            this.value = value;
+        }
+    }
 }
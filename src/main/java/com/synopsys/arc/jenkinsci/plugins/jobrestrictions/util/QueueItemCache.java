@@ -0,0 +1,259 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.model.Action;
+import hudson.model.CauseAction;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Queue;
+import hudson.model.Saveable;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.SaveableListener;
+import hudson.model.queue.CauseOfBlockage;
+import hudson.model.queue.QueueListener;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Stores data, which is calculated once per {@link Queue.Item} and then reused
+ * by all restriction checks of this item.
+ * Only items, which are actually waiting in the {@link Queue}, are being tracked.
+ * The entry is being dropped when the item leaves the queue, and it is being reset when the job is reconfigured.
+ * Decisions expire after {@link #DECISION_TTL_SECONDS}, so changes of the state outside the item
+ * are taken into account even if the item stays in the queue for a long time.
+ */
+@Restricted(NoExternalUse.class)
+public final class QueueItemCache {
+
+    private static final ConcurrentMap<Long, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    /**Time to live of cached decisions in seconds.*/
+    /*package*/ static final long DECISION_TTL_SECONDS =
+            Long.getLong(QueueItemCache.class.getName() + ".decisionTtlSeconds", 60);
+
+    /**Version of the restriction configuration. Entries of older versions are discarded.*/
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private QueueItemCache() {}
+
+    /**
+     * Gets the cache entry for the item.
+     * The entry is being reset if the causes of the item have changed since the last call,
+     * e.g. due to the merge of scheduling requests.
+     * @param item Queue item
+     * @return Cache entry. {@code null} if the item is not being tracked
+     */
+    @CheckForNull
+    public static Entry get(@NonNull Queue.Item item) {
+        final Entry entry = ENTRIES.get(item.getId());
+        if (entry == null) {
+            return null;
+        }
+
+        final int signature = getSignature(item);
+        final long version = VERSION.get();
+        if (entry.signature == signature && entry.version == version) {
+            return entry;
+        }
+        final Entry fresh = new Entry(signature, version);
+        return ENTRIES.replace(item.getId(), entry, fresh) ? fresh : ENTRIES.get(item.getId());
+    }
+
+    /**
+     * Discards all cached data.
+     * Should be invoked when the restriction configuration changes in place.
+     */
+    public static void invalidateAll() {
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * Discards cached data of all queued items of the task.
+     * @param task Task, which has been reconfigured
+     */
+    public static void invalidate(@NonNull Queue.Task task) {
+        for (Queue.Item item : Queue.getInstance().getItems(task)) {
+            ENTRIES.computeIfPresent(item.getId(), (id, entry) -> new Entry(entry.signature, entry.version));
+        }
+    }
+
+    /*package*/ static void track(@NonNull Queue.Item item) {
+        ENTRIES.putIfAbsent(item.getId(), new Entry(getSignature(item), VERSION.get()));
+    }
+
+    /*package*/ static void untrack(@NonNull Queue.Item item) {
+        ENTRIES.remove(item.getId());
+    }
+
+    /**
+     * Calculates a cheap signature of item's actions.
+     * The signature changes when new actions or new distinct causes get folded into the item.
+     */
+    private static int getSignature(@NonNull Queue.Item item) {
+        int signature = 1;
+        for (Action action : item.getActions()) {
+            signature = 31 * signature
+                    + (action instanceof CauseAction ? ((CauseAction) action).getCauseCounts().size() : 1);
+        }
+        return signature;
+    }
+
+    /**
+     * Cached data of a single {@link Queue.Item}.
+     */
+    public static final class Entry {
+
+        private final int signature;
+        private final long version;
+        private final ConcurrentMap<Object, Decision> decisions = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, Object> data = new ConcurrentHashMap<>();
+
+        private Entry(int signature, long version) {
+            this.signature = signature;
+            this.version = version;
+        }
+
+        /**
+         * Gets the cached decision.
+         * @param owner Object, which has taken the decision
+         * @return Cached decision. {@code null} if it is not calculated yet or if it has expired
+         */
+        @CheckForNull
+        public Decision getDecision(@NonNull Object owner) {
+            final Decision decision = decisions.get(owner);
+            if (decision != null && System.nanoTime() - decision.expiresAt >= 0) {
+                decisions.remove(owner, decision);
+                return null;
+            }
+            return decision;
+        }
+
+        /**
+         * Caches the decision.
+         * Only decisions, which depend on the item and on the configuration alone, should be cached.
+         * @param owner Object, which has taken the decision
+         * @param blockage Cause of blockage. {@code null} if the item can be taken
+         */
+        public void putDecision(@NonNull Object owner, @CheckForNull CauseOfBlockage blockage) {
+            final long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(DECISION_TTL_SECONDS);
+            decisions.put(owner, new Decision(blockage, expiresAt));
+        }
+
+        /**
+         * Gets the data calculated for the item.
+         * @param <T> Type of the data
+         * @param type Type of the data, also used as a key
+         * @param factory Calculates the data if it is not available yet
+         * @return Item data
+         */
+        @NonNull
+        public <T> T getData(@NonNull Class<T> type, @NonNull Supplier<T> factory) {
+            final Object cached = data.get(type);
+            if (cached != null) {
+                return type.cast(cached);
+            }
+            return type.cast(data.computeIfAbsent(type, k -> factory.get()));
+        }
+    }
+
+    /**
+     * Decision about the {@link Queue.Item}.
+     */
+    public static final class Decision {
+
+        @CheckForNull
+        private final CauseOfBlockage blockage;
+
+        private final long expiresAt;
+
+        private Decision(@CheckForNull CauseOfBlockage blockage, long expiresAt) {
+            this.blockage = blockage;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Gets the cause of blockage.
+         * @return Cause of blockage. {@code null} if the item can be taken
+         */
+        @CheckForNull
+        public CauseOfBlockage getBlockage() {
+            return blockage;
+        }
+    }
+
+    @Extension
+    public static class QueueListenerImpl extends QueueListener {
+
+        @Override
+        public void onEnterWaiting(Queue.WaitingItem wi) {
+            track(wi);
+        }
+
+        @Override
+        public void onLeft(Queue.LeftItem li) {
+            untrack(li);
+        }
+    }
+
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+
+        @Override
+        public void onLocationChanged(Item item, String oldFullName, String newFullName) {
+            invalidateAll(); // Cached names and decisions depend on the location
+        }
+
+        @Override
+        public void onUpdated(Item item) {
+            if (item instanceof Queue.Task) {
+                invalidate((Queue.Task) item);
+            }
+        }
+    }
+
+    /**
+     * Handles changes of jobs, which are saved without {@link ItemListener#onUpdated(Item)},
+     * e.g. from scripts or by other plugins.
+     */
+    @Extension
+    public static class SaveableListenerImpl extends SaveableListener {
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof Job && o instanceof Queue.Task) {
+                invalidate((Queue.Task) o);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.security.SecurityRealm;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Bounded cache of user authorities with expiration.
+ * Authorities may be loaded from {@link SecurityRealm}, which may require network calls
+ * (e.g. for LDAP). The cache prevents such calls for each check within the Queue lock.
+ * Settings are taken from {@link JobRestrictionsConfiguration}.
+ */
+@Restricted(NoExternalUse.class)
+public final class UserAuthoritiesCache {
+
+    private static final UserAuthoritiesCache INSTANCE = new UserAuthoritiesCache();
+
+    /**Least recently used entries come first.*/
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private UserAuthoritiesCache() {}
+
+    @NonNull
+    public static UserAuthoritiesCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets authorities of the user.
+     * @param userId User ID
+     * @param loader Loads authorities if there is no valid entry in the cache.
+     *               It is being invoked outside the cache lock.
+     * @return List of effective groups. {@code null} if there's no info
+     */
+    @CheckForNull
+    public List<String> getAuthorities(@NonNull String userId, @NonNull Function<String, List<String>> loader) {
+        if (!isEnabled()) {
+            return loader.apply(userId);
+        }
+
+        final Entry cached = getIfPresent(userId);
+        if (cached != null) {
+            return cached.authorities;
+        }
+
+        final List<String> authorities = loader.apply(userId);
+        if (authorities != null || JobRestrictionsConfiguration.get().isAuthoritiesCacheMissingUsers()) {
+            return put(userId, authorities);
+        }
+        return authorities;
+    }
+
+    /**
+     * Gets a valid cached entry without loading.
+     * @param userId User ID
+     * @return Cached entry. {@code null} if there is no valid entry or if the cache is disabled
+     */
+    @CheckForNull
+    public Entry getIfPresent(@NonNull String userId) {
+        final long now = System.nanoTime();
+        synchronized (entries) {
+            final Entry entry = entries.get(userId);
+            return entry != null && now - entry.expiresAt < 0 ? entry : null;
+        }
+    }
+
+    /**
+     * Puts authorities of the user to the cache.
+     * Entries for users without info are stored regardless of the negative caching setting.
+     * @param userId User ID
+     * @param authorities Authorities. {@code null} if there's no info
+     * @return Stored authorities
+     */
+    @CheckForNull
+    public List<String> put(@NonNull String userId, @CheckForNull List<String> authorities) {
+        final JobRestrictionsConfiguration config = JobRestrictionsConfiguration.get();
+        final int expirationSeconds = config.getAuthoritiesCacheExpirationSeconds();
+        final int maxSize = config.getAuthoritiesCacheMaxSize();
+        final Entry entry = new Entry(
+                authorities != null ? Collections.unmodifiableList(authorities) : null,
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(expirationSeconds));
+        if (expirationSeconds > 0 && maxSize > 0) {
+            synchronized (entries) {
+                entries.put(userId, entry);
+                trim(maxSize);
+            }
+        }
+        return entry.authorities;
+    }
+
+    /**
+     * Checks if the cache is enabled in {@link JobRestrictionsConfiguration}.
+     * @return {@code true} if the cache is enabled
+     */
+    public static boolean isEnabled() {
+        final JobRestrictionsConfiguration config = JobRestrictionsConfiguration.get();
+        return config.getAuthoritiesCacheExpirationSeconds() > 0 && config.getAuthoritiesCacheMaxSize() > 0;
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void trim(int maxSize) {
+        while (entries.size() > maxSize) {
+            final Map.Entry<String, Entry> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+        }
+    }
+
+    /**
+     * Cached authorities of a user.
+     */
+    public static final class Entry {
+
+        @CheckForNull
+        private final List<String> authorities;
+
+        private final long expiresAt;
+
+        Entry(@CheckForNull List<String> authorities, long expiresAt) {
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Gets cached authorities.
+         * @return List of effective groups. {@code null} if there's no info
+         */
+        @CheckForNull
+        public List<String> getAuthorities() {
+            return authorities;
+        }
+    }
+}
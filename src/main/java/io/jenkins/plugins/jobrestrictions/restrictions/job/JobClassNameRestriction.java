@@ -26,15 +26,21 @@ package io.jenkins.plugins.jobrestrictions.restrictions.job;
 
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.Messages;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
 import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionDescriptor;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.Extension;
+import hudson.model.Job;
 import hudson.model.Queue;
 import hudson.model.Run;
 import io.jenkins.plugins.jobrestrictions.util.ClassSelector;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import org.kohsuke.stapler.DataBoundConstructor;
 
@@ -52,11 +58,26 @@ public class JobClassNameRestriction extends JobRestriction {
 
     private final List<ClassSelector> jobClasses;
 
-    private transient Set<String> acceptedClassesHash = null;
+    /**Immutable set of {@link #jobClasses} names, built at construction and deserialization.*/
+    private transient volatile Set<String> acceptedClassesHash;
+
+    /**
+     * Decisions cached per {@link Class}. Classes reloaded by a new class loader are different keys,
+     * and the cache does not prevent unloading of classes.
+     */
+    private transient volatile ClassValue<Boolean> acceptedClasses;
 
     @DataBoundConstructor
     public JobClassNameRestriction(List<ClassSelector> jobClasses) {
         this.jobClasses = jobClasses;
+        this.acceptedClassesHash = toClassNames(jobClasses);
+        this.acceptedClasses = new AcceptedClasses(acceptedClassesHash);
+    }
+
+    protected Object readResolve() {
+        acceptedClassesHash = toClassNames(jobClasses);
+        acceptedClasses = new AcceptedClasses(acceptedClassesHash);
+        return this;
     }
 
     @NonNull
@@ -65,25 +86,72 @@ public class JobClassNameRestriction extends JobRestriction {
     }
 
     @NonNull
-    private synchronized Set<String> getAcceptedJobClasses() {
-        if (acceptedClassesHash == null) {
-            final List<ClassSelector> selectors = getJobClasses();
-            acceptedClassesHash = new HashSet<>(selectors.size());
-            for (ClassSelector selector : selectors) {
-                acceptedClassesHash.add(selector.getSelectedClass()); // merge equal entries
-            }
+    private static Set<String> toClassNames(@CheckForNull List<ClassSelector> selectors) {
+        if (selectors == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> classNames = new HashSet<>(selectors.size());
+        for (ClassSelector selector : selectors) {
+            classNames.add(selector.getSelectedClass()); // merge equal entries
         }
-        return acceptedClassesHash;
+        return Collections.unmodifiableSet(classNames);
+    }
+
+    private boolean accepts(@NonNull Class<?> jobClass) {
+        return acceptedClasses.get(jobClass);
     }
 
     @Override
     public boolean canTake(Queue.BuildableItem item) {
-        return getAcceptedJobClasses().contains(item.task.getClass().getName());
+        return canTake(new JobRestrictionContext(item));
+    }
+
+    @Override
+    public boolean canTake(JobRestrictionContext context) {
+        return accepts(context.getTaskClass());
     }
 
     @Override
     public boolean canTake(Run run) {
-        return getAcceptedJobClasses().contains(run.getParent().getClass().getName());
+        return accepts(run.getParent().getClass());
+    }
+
+    @Override
+    public boolean canTake(RunRestrictionContext context) {
+        final Job<?, ?> job = context.getJob();
+        return job != null && accepts(job.getClass());
+    }
+
+    private static final class AcceptedClasses extends ClassValue<Boolean> {
+
+        @NonNull
+        private final Set<String> classNames;
+
+        AcceptedClasses(@NonNull Set<String> classNames) {
+            this.classNames = classNames;
+        }
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return classNames.contains(type.getName());
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final JobClassNameRestriction other = (JobClassNameRestriction) obj;
+        return Objects.equals(jobClasses, other.jobClasses);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobClasses);
     }
 
     @Extension
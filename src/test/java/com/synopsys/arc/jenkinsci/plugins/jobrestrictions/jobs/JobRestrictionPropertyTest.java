@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.jobs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
+import hudson.model.FreeStyleProject;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link JobRestrictionProperty}.
+ */
+@WithJenkins
+class JobRestrictionPropertyTest {
+
+    @Test
+    void shouldMoveAndRemoveJobMetrics(JenkinsRule j) throws Exception {
+        RestrictionMetrics metrics = RestrictionMetrics.get();
+        metrics.reset();
+        FreeStyleProject project =
+                JobRestrictionTestHelper.createJob(j, FreeStyleProject.class, new UserIdCauseRestriction(false));
+        j.buildAndAssertSuccess(project);
+        assertThat(metrics.getStats(RestrictionMetrics.JOBS, "testProject"), notNullValue());
+
+        project.renameTo("renamed");
+        assertThat(metrics.getStats(RestrictionMetrics.JOBS, "testProject"), nullValue());
+        assertThat(metrics.getStats(RestrictionMetrics.JOBS, "renamed"), notNullValue());
+
+        project.delete();
+        assertThat(metrics.getStats(RestrictionMetrics.JOBS, "renamed"), nullValue());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.jobs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.RunRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByUserRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.NotJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserSelector;
+import hudson.AbortException;
+import hudson.model.Cause;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class UpstreamCauseRestrictionTest {
+
+    private JenkinsRule j;
+
+    private FreeStyleProject upstream;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) throws Exception {
+        j = rule;
+        upstream = j.createFreeStyleProject("upstream");
+    }
+
+    @Test
+    void shouldCheckUpstreamBuild() throws Exception {
+        final FreeStyleBuild build = j.buildAndAssertSuccess(upstream);
+        final Cause.UpstreamCause cause = new Cause.UpstreamCause(build);
+
+        assertDoesNotThrow(() -> new UpstreamCauseRestriction(new RegexNameRestriction("up.*", false)).validate(cause));
+        assertThrows(
+                AbortException.class,
+                () -> new UpstreamCauseRestriction(new RegexNameRestriction("down.*", false)).validate(cause));
+        assertThrows(
+                AbortException.class,
+                () -> new UpstreamCauseRestriction(new NotJobRestriction(new RegexNameRestriction("up.*", false)))
+                        .validate(cause));
+    }
+
+    @Test
+    void shouldCheckUpstreamCauses() throws Exception {
+        final FreeStyleBuild build = j.buildAndAssertSuccess(upstream);
+        final Cause.UpstreamCause cause = new Cause.UpstreamCause(build);
+        final StartedByUserRestriction byUser = new StartedByUserRestriction(
+                Collections.singletonList(new UserSelector("foo")), false, false, false);
+
+        // The upstream build has not been started by the user
+        assertThrows(AbortException.class, () -> new UpstreamCauseRestriction(byUser).validate(cause));
+        assertThat(byUser.canTake(new RunRestrictionContext(cause)), is(byUser.canTake(build)));
+    }
+
+    @Test
+    void shouldRejectProhibitedUpstreamCauseWhenScheduled() throws Exception {
+        final FreeStyleBuild build = j.buildAndAssertSuccess(upstream);
+        final FreeStyleProject allowed = j.createFreeStyleProject("allowed");
+        JobRestrictionPropertyBuider.create()
+                .addCauseRestriction(new UpstreamCauseRestriction(new RegexNameRestriction("up.*", false)))
+                .applyTo(allowed);
+        final FreeStyleProject prohibited = j.createFreeStyleProject("prohibited");
+        JobRestrictionPropertyBuider.create()
+                .addCauseRestriction(new UpstreamCauseRestriction(new RegexNameRestriction("down.*", false)))
+                .applyTo(prohibited);
+
+        // The request is rejected by the QueueDecisionHandler, the build never enters the queue
+        assertThat(prohibited.scheduleBuild2(0, new Cause.UpstreamCause(build)), nullValue());
+        assertThat(j.jenkins.getQueue().getItem(prohibited), nullValue());
+        j.assertBuildStatusSuccess(allowed.scheduleBuild2(0, new Cause.UpstreamCause(build)));
+    }
+
+    @Test
+    void shouldHandleMissingUpstreamBuild() throws Exception {
+        final FreeStyleBuild build = j.buildAndAssertSuccess(upstream);
+        final Cause.UpstreamCause cause = new Cause.UpstreamCause(build);
+        build.delete();
+
+        assertThat(new RunRestrictionContext(cause).runExists(), is(false));
+        assertThrows(
+                AbortException.class,
+                () -> new UpstreamCauseRestriction(new RegexNameRestriction("up.*", false)).validate(cause));
+        assertDoesNotThrow(
+                () -> new UpstreamCauseRestriction(new RegexNameRestriction("up.*", false), true).validate(cause));
+    }
+}
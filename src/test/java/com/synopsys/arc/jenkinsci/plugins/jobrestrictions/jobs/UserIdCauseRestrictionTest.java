@@ -7,8 +7,6 @@ import hudson.model.*;
 import hudson.model.queue.QueueTaskFuture;
 import hudson.security.ACL;
 import hudson.security.ACLContext;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -50,7 +48,23 @@ class UserIdCauseRestrictionTest {
     void shouldNotAllowManualRuns_UserIdCause() throws Exception {
         FreeStyleProject project =
                 JobRestrictionTestHelper.createJob(j, FreeStyleProject.class, new UserIdCauseRestriction(true));
-        FreeStyleBuild build = runAsUser(project, TEST_USERNAME, false);
+        assertThat(
+                "Job restriction should have prohibited scheduling of the manual launch",
+                scheduleAsUser(project, TEST_USERNAME, false),
+                nullValue());
+    }
+
+    @Test
+    void shouldFailQueuedManualRuns_UserIdCause() throws Exception {
+        FreeStyleProject project = j.createFreeStyleProject("testProject");
+        // The build is queued before the property gets configured, so only prebuild() can prohibit it
+        QueueTaskFuture<FreeStyleBuild> scheduled = scheduleAsUser(project, TEST_USERNAME, false, 2);
+        assertThat(scheduled, not(nullValue()));
+        JobRestrictionPropertyBuider.create()
+                .addCauseRestriction(new UserIdCauseRestriction(true))
+                .applyTo(project);
+
+        FreeStyleBuild build = scheduled.get(1, TimeUnit.MINUTES);
         assertThat(
                 "Job restriction should have prohibited the manual launch", build.getResult(), equalTo(Result.FAILURE));
     }
@@ -70,14 +84,22 @@ class UserIdCauseRestrictionTest {
 
     private FreeStyleBuild runAsUser(final FreeStyleProject project, String username, final boolean legacyCause)
             throws InterruptedException, ExecutionException, TimeoutException {
+        final QueueTaskFuture<FreeStyleBuild> scheduled = scheduleAsUser(project, username, legacyCause);
+        assertThat(scheduled, not(nullValue()));
+        return scheduled.get(1, TimeUnit.MINUTES);
+    }
+
+    private QueueTaskFuture<FreeStyleBuild> scheduleAsUser(
+            final FreeStyleProject project, String username, final boolean legacyCause) {
+        return scheduleAsUser(project, username, legacyCause, 0);
+    }
+
+    private QueueTaskFuture<FreeStyleBuild> scheduleAsUser(
+            final FreeStyleProject project, String username, final boolean legacyCause, int quietPeriod) {
         User user = j.jenkins.getUser(username);
-        final List<QueueTaskFuture<FreeStyleBuild>> scheduled = new ArrayList<>(1);
         try (ACLContext ignored = ACL.as2(user.impersonate2())) {
             final Cause cause = legacyCause ? new Cause.UserCause() : new Cause.UserIdCause();
-            scheduled.add(project.scheduleBuild2(0, cause));
+            return project.scheduleBuild2(quietPeriod, cause);
         }
-
-        assertThat(scheduled, not(nullValue()));
-        return scheduled.get(0).get(1, TimeUnit.MINUTES);
     }
 }
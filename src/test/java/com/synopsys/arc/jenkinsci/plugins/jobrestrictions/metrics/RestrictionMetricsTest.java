@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RestrictionMetrics}.
+ */
+class RestrictionMetricsTest {
+
+    @Test
+    void shouldCollectStats() {
+        RestrictionMetrics metrics = RestrictionMetrics.get();
+        metrics.reset();
+        metrics.record(RestrictionMetrics.NODES, "agent", 1000, true, false);
+        metrics.record(RestrictionMetrics.NODES, "agent", 1500, false, true);
+        metrics.record(RestrictionMetrics.NODES, "agent", 3000, false, false);
+
+        RestrictionMetrics.Stats stats = metrics.getStats(RestrictionMetrics.NODES, "agent");
+        assertThat(stats.getEvaluations(), is(3L));
+        assertThat(stats.getBlocks(), is(1L));
+        assertThat(stats.getCacheHits(), is(1L));
+        assertThat(stats.getTotalNanos(), is(5500L));
+
+        JSONObject histogram = metrics.toJSON()
+                .getJSONObject(RestrictionMetrics.NODES)
+                .getJSONObject("agent")
+                .getJSONObject("latencyHistogram");
+        assertThat(histogram.getLong("1024"), is(1L));
+        assertThat(histogram.getLong("2048"), is(1L));
+        assertThat(histogram.getLong("4096"), is(1L));
+    }
+
+    @Test
+    void shouldResolveRecorderAgainAfterRemoval() {
+        RestrictionMetrics metrics = RestrictionMetrics.get();
+        metrics.reset();
+        RestrictionMetrics.Recorder recorder = metrics.recorder(RestrictionMetrics.NODES, "ephemeral");
+        recorder.record(1000, false, false);
+        recorder.record(1000, true, true);
+        assertThat(metrics.getStats(RestrictionMetrics.NODES, "ephemeral").getEvaluations(), is(2L));
+
+        metrics.remove(RestrictionMetrics.NODES, "ephemeral");
+        assertThat(metrics.getStats(RestrictionMetrics.NODES, "ephemeral"), nullValue());
+
+        recorder.record(1000, false, false);
+        assertThat(metrics.getStats(RestrictionMetrics.NODES, "ephemeral").getEvaluations(), is(1L));
+    }
+
+    @Test
+    void shouldMoveStatsOnRename() {
+        RestrictionMetrics metrics = RestrictionMetrics.get();
+        metrics.reset();
+        RestrictionMetrics.Recorder recorder = metrics.recorder(RestrictionMetrics.JOBS, "old");
+        recorder.record(1000, false, false);
+
+        metrics.rename(RestrictionMetrics.JOBS, "old", "new");
+        assertThat(metrics.getStats(RestrictionMetrics.JOBS, "old"), nullValue());
+        assertThat(metrics.getStats(RestrictionMetrics.JOBS, "new").getEvaluations(), is(1L));
+    }
+}
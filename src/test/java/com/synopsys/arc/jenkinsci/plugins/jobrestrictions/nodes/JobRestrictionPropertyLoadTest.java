@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleAndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleOrJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.NotJobRestriction;
+import hudson.matrix.MatrixProject;
+import hudson.model.Cause;
+import hudson.model.FreeStyleProject;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.slaves.DumbSlave;
+import hudson.slaves.JNLPLauncher;
+import io.jenkins.plugins.jobrestrictions.restrictions.job.JobClassNameRestriction;
+import io.jenkins.plugins.jobrestrictions.util.ClassSelector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Measures the wall time of {@link Queue#maintain()} for N agents and M buildable items,
+ * with and without {@link JobRestrictionProperty}.
+ * Agents never connect, but their executors are still offered to all buildable items,
+ * so each maintenance checks the whole item &times; node matrix.
+ *
+ * <p>
+ * The test is disabled by default. Run it by:
+ * {@code mvn test -Dtest=JobRestrictionPropertyLoadTest -DjobRestrictions.loadTest=true -Djenkins.test.timeout=0}.
+ * Sizes may be changed by {@code -DjobRestrictions.loadTest.nodes}, {@code -DjobRestrictions.loadTest.items}
+ * and {@code -DjobRestrictions.loadTest.iterations}.
+ */
+@WithJenkins
+@EnabledIfSystemProperty(named = "jobRestrictions.loadTest", matches = "true")
+class JobRestrictionPropertyLoadTest {
+
+    private static final Logger LOGGER = Logger.getLogger(JobRestrictionPropertyLoadTest.class.getName());
+
+    private static final int NODES = Integer.getInteger("jobRestrictions.loadTest.nodes", 200);
+    private static final int ITEMS = Integer.getInteger("jobRestrictions.loadTest.items", 1000);
+    private static final int ITERATIONS = Integer.getInteger("jobRestrictions.loadTest.iterations", 10);
+
+    /**Number of teams, which own nodes and jobs.*/
+    private static final int TEAMS = 20;
+
+    private JenkinsRule j;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) throws Exception {
+        j = rule;
+        j.jenkins.setNumExecutors(0); // Nothing should leave the queue
+
+        final List<Cause> causes = Arrays.asList(
+                new Cause.UserIdCause("alice"),
+                new Cause.RemoteCause("localhost", "load test"),
+                new Cause.UserIdCause("bob"));
+        for (int i = 0; i < ITEMS; i++) {
+            final String name = "team-" + (i % TEAMS) + "_job" + i;
+            if (i % 10 == 0) {
+                j.jenkins.createProject(MatrixProject.class, name).scheduleBuild2(0, causes.get(i % causes.size()));
+            } else {
+                j.jenkins.createProject(FreeStyleProject.class, name).scheduleBuild2(0, causes.get(i % causes.size()));
+            }
+        }
+    }
+
+    @Test
+    void maintainQueue() throws Exception {
+        j.jenkins.setNodes(createAgents(false));
+        final long[] withoutPlugin = measure();
+
+        j.jenkins.setNodes(createAgents(true));
+        final long[] withPlugin = measure();
+
+        LOGGER.log(
+                Level.INFO,
+                String.format(
+                        "Queue.maintain() for %d agents and %d items, ms: "
+                                + "without the plugin - first %.1f, median %.1f; "
+                                + "with the plugin - first %.1f, median %.1f",
+                        NODES,
+                        ITEMS,
+                        ms(withoutPlugin[0]),
+                        ms(median(withoutPlugin)),
+                        ms(withPlugin[0]),
+                        ms(median(withPlugin))));
+        assertThat(median(withoutPlugin), greaterThan(0L));
+        assertThat(median(withPlugin), greaterThan(0L));
+    }
+
+    private List<Node> createAgents(boolean restricted) throws Exception {
+        final List<Node> agents = new ArrayList<>(NODES);
+        for (int i = 0; i < NODES; i++) {
+            final DumbSlave agent = new DumbSlave("agent" + i, "/tmp/agent" + i, new JNLPLauncher());
+            agent.setNumExecutors(2);
+            if (restricted) {
+                agent.setNodeProperties(Collections.singletonList(new JobRestrictionProperty(createRestriction(i))));
+            }
+            agents.add(agent);
+        }
+        return agents;
+    }
+
+    /**
+     * Typical partitioning: the node is owned by two teams and does not take Matrix projects.
+     */
+    private static JobRestriction createRestriction(int index) {
+        return new MultipleAndJobRestriction(new ArrayList<>(Arrays.asList(
+                new MultipleOrJobRestriction(new ArrayList<>(Arrays.asList(
+                        new RegexNameRestriction("team-" + (index % TEAMS) + "_.*", false),
+                        new RegexNameRestriction("team-" + ((index + 1) % TEAMS) + "_.*", false)))),
+                new NotJobRestriction(new JobClassNameRestriction(
+                        Collections.singletonList(new ClassSelector(MatrixProject.class.getName())))))));
+    }
+
+    /**
+     * Runs queue maintenance several times.
+     * @return Durations in nanoseconds, the first one includes population of per-item caches
+     */
+    private long[] measure() {
+        final Queue queue = j.jenkins.getQueue();
+        final long[] durations = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long start = System.nanoTime();
+            queue.maintain();
+            durations[i] = System.nanoTime() - start;
+        }
+        assertThat("All items should remain in the queue", queue.getBuildableItems().size(), is(ITEMS));
+        return durations;
+    }
+
+    private static long median(long[] durations) {
+        final long[] sorted = durations.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import hudson.model.FreeStyleProject;
+import hudson.model.Label;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.slaves.DumbSlave;
+import hudson.slaves.JNLPLauncher;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link JobRestrictionProperty}.
+ */
+@WithJenkins
+class JobRestrictionPropertyTest {
+
+    @Test
+    void shouldRecordMetricsByCurrentNodeName(JenkinsRule j) throws Exception {
+        DumbSlave agent = new DumbSlave("agent", "/tmp/agent", new JNLPLauncher());
+        agent.setLabelString("agent");
+        j.jenkins.addNode(agent);
+        FreeStyleProject project = j.createFreeStyleProject("project");
+        project.setAssignedLabel(Label.get("agent"));
+        project.scheduleBuild2(0);
+        j.jenkins.getQueue().maintain();
+        List<Queue.BuildableItem> items = j.jenkins.getQueue().getBuildableItems();
+        assertThat(items, hasSize(1));
+
+        RestrictionMetrics metrics = RestrictionMetrics.get();
+        metrics.reset();
+        AttachedProperty property = new AttachedProperty(new RegexNameRestriction("proj.*", false));
+        property.attach(agent);
+        assertThat(property.canTake(items.get(0)), nullValue());
+        assertThat(metrics.getStats(RestrictionMetrics.NODES, "agent").getEvaluations(), is(1L));
+
+        // The property stays the same, but the node has another name now
+        property.attach(new DumbSlave("renamed", "/tmp/agent", new JNLPLauncher()));
+        assertThat(property.canTake(items.get(0)), nullValue());
+        assertThat(metrics.getStats(RestrictionMetrics.NODES, "agent").getEvaluations(), is(1L));
+        assertThat(metrics.getStats(RestrictionMetrics.NODES, "renamed").getEvaluations(), is(1L));
+    }
+
+    /**
+     * Property, which may be attached to a node without adding it to the node.
+     */
+    private static final class AttachedProperty extends JobRestrictionProperty {
+
+        AttachedProperty(JobRestriction jobRestriction) {
+            super(jobRestriction);
+        }
+
+        void attach(Node node) {
+            setNode(node);
+        }
+    }
+}
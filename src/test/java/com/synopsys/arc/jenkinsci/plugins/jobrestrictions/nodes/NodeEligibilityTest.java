@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionContext;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.FolderPrefixRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByUserRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.AndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.NotJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.OrJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.FolderSelector;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserSelector;
+import hudson.model.FreeStyleProject;
+import hudson.model.Label;
+import hudson.model.Node;
+import hudson.model.Queue;
+import hudson.model.Run;
+import hudson.slaves.DumbSlave;
+import hudson.slaves.JNLPLauncher;
+import io.jenkins.plugins.jobrestrictions.restrictions.job.JobClassNameRestriction;
+import io.jenkins.plugins.jobrestrictions.util.ClassSelector;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link NodeEligibility}.
+ */
+@WithJenkins
+class NodeEligibilityTest {
+
+    @Test
+    void shouldEvaluateLabelsAndRestrictions(JenkinsRule j) throws Exception {
+        DumbSlave restricted = new DumbSlave("restricted", "/tmp/restricted", new JNLPLauncher());
+        restricted.setLabelString("linux");
+        restricted.getNodeProperties().add(new JobRestrictionProperty(new RegexNameRestriction("a.*", false)));
+        j.jenkins.addNode(restricted);
+        DumbSlave windows = new DumbSlave("windows", "/tmp/windows", new JNLPLauncher());
+        windows.setLabelString("windows");
+        j.jenkins.addNode(windows);
+
+        j.createFreeStyleProject("a");
+        j.createFreeStyleProject("b");
+        FreeStyleProject linux = j.createFreeStyleProject("linux");
+        linux.setAssignedLabel(Label.get("linux"));
+
+        NodeEligibility.Matrix matrix = NodeEligibility.evaluate(
+                NodeEligibility.getTasks(Arrays.asList("a", "b", "linux")),
+                NodeEligibility.getNodes(Arrays.asList("built-in", "restricted", "windows")));
+
+        assertThat(matrix.getTasks(), contains("a", "b", "linux"));
+        assertThat(matrix.getNodes(), contains("built-in", "restricted", "windows"));
+        assertThat(matrix.getRow(0), is("111"));
+        assertThat(matrix.getRow(1), is("101"));
+        assertThat(matrix.getRow(2), is("000"));
+    }
+
+    @Test
+    void shouldEvaluateAsUserWithoutQueueItems(JenkinsRule j) throws Exception {
+        DumbSlave restricted = new DumbSlave("restricted", "/tmp/restricted", new JNLPLauncher());
+        restricted.getNodeProperties().add(new JobRestrictionProperty(new StartedByUserRestriction(
+                Collections.singletonList(new UserSelector("alice")), false, false, false)));
+        j.jenkins.addNode(restricted);
+        List<Queue.Task> tasks = NodeEligibility.getTasks(Collections.singletonList(
+                j.createFreeStyleProject("a").getFullName()));
+        List<Node> nodes = NodeEligibility.getNodes(Collections.singletonList("restricted"));
+
+        long queueId = Queue.WaitingItem.getCurrentCounterValue();
+        assertThat(NodeEligibility.evaluate(tasks, nodes).getRow(0), is("0"));
+        assertThat(NodeEligibility.evaluate(tasks, nodes, "alice").getRow(0), is("1"));
+        assertThat(NodeEligibility.evaluate(tasks, nodes, "bob").getRow(0), is("0"));
+        assertThat(Queue.WaitingItem.getCurrentCounterValue(), is(queueId));
+    }
+
+    @Test
+    void shouldNotConsumeQueueIdsForContextAwareTrees(JenkinsRule j) throws Exception {
+        DumbSlave restricted = new DumbSlave("restricted", "/tmp/restricted", new JNLPLauncher());
+        restricted.getNodeProperties().add(new JobRestrictionProperty(new OrJobRestriction(
+                new AndJobRestriction(
+                        new RegexNameRestriction("a", false),
+                        new JobClassNameRestriction(
+                                Collections.singletonList(new ClassSelector(FreeStyleProject.class.getName())))),
+                new AndJobRestriction(
+                        new NotJobRestriction(new FolderPrefixRestriction(
+                                Collections.singletonList(new FolderSelector("folder")))),
+                        new StartedByUserRestriction(
+                                Collections.singletonList(new UserSelector("alice")), false, false, false)))));
+        j.jenkins.addNode(restricted);
+        j.createFreeStyleProject("a");
+        j.createFreeStyleProject("b");
+        List<Queue.Task> tasks = NodeEligibility.getTasks(Arrays.asList("a", "b"));
+        List<Node> nodes = NodeEligibility.getNodes(Collections.singletonList("restricted"));
+
+        long queueId = Queue.WaitingItem.getCurrentCounterValue();
+        NodeEligibility.Matrix matrix = NodeEligibility.evaluate(tasks, nodes, "alice");
+        assertThat(matrix.getRow(0), is("1"));
+        assertThat(matrix.getRow(1), is("1"));
+        assertThat(NodeEligibility.evaluate(tasks, nodes, "bob").getRow(1), is("0"));
+        assertThat(Queue.WaitingItem.getCurrentCounterValue(), is(queueId));
+    }
+
+    @Test
+    void shouldCreateDetachedItemsOnlyForLegacyRestrictions(JenkinsRule j) throws Exception {
+        DumbSlave restricted = new DumbSlave("restricted", "/tmp/restricted", new JNLPLauncher());
+        restricted.getNodeProperties().add(new JobRestrictionProperty(new LegacyRestriction()));
+        j.jenkins.addNode(restricted);
+        List<Queue.Task> tasks = NodeEligibility.getTasks(Collections.singletonList(
+                j.createFreeStyleProject("a").getFullName()));
+        List<Node> nodes = NodeEligibility.getNodes(Collections.singletonList("restricted"));
+
+        // The restriction needs a queue item, so the evaluation consumes one queue ID per task
+        long queueId = Queue.WaitingItem.getCurrentCounterValue();
+        assertThat(NodeEligibility.evaluate(tasks, nodes).getRow(0), is("1"));
+        assertThat(Queue.WaitingItem.getCurrentCounterValue(), is(queueId + 1));
+    }
+
+    /**
+     * Restriction, which does not support {@link JobRestrictionContext}.
+     */
+    private static final class LegacyRestriction extends JobRestriction {
+
+        @Override
+        public boolean canTake(Queue.BuildableItem item) {
+            return item.task.getName().startsWith("a");
+        }
+
+        @Override
+        public boolean canTake(Run run) {
+            return run.getParent().getName().startsWith("a");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import hudson.model.FreeStyleProject;
+import hudson.model.Label;
+import hudson.model.Queue;
+import hudson.slaves.DumbSlave;
+import hudson.slaves.JNLPLauncher;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link NodeRestrictionChanges}.
+ */
+@WithJenkins
+class NodeRestrictionChangesTest {
+
+    @Test
+    void shouldDetectChangedRestrictions(JenkinsRule j) {
+        JobRestrictionProperty accepting = new JobRestrictionProperty(new RegexNameRestriction("proj.*", false));
+        JobRestrictionProperty sameAccepting = new JobRestrictionProperty(new RegexNameRestriction("proj.*", false));
+        JobRestrictionProperty rejecting = new JobRestrictionProperty(new RegexNameRestriction("other", false));
+
+        assertThat("Equal restriction should not be a change",
+                NodeRestrictionChanges.isChanged(accepting, sameAccepting), is(false));
+        assertThat(NodeRestrictionChanges.isChanged(accepting, accepting), is(false));
+        assertThat(NodeRestrictionChanges.isChanged(null, null), is(false));
+        assertThat(NodeRestrictionChanges.isChanged(accepting, rejecting), is(true));
+        assertThat(NodeRestrictionChanges.isChanged(null, accepting), is(true));
+        assertThat(NodeRestrictionChanges.isChanged(accepting, null), is(true));
+    }
+
+    @Test
+    void shouldScheduleMaintenanceOnlyIfEligibleItemsChange(JenkinsRule j) throws Exception {
+        Queue.BuildableItem item = scheduleOnOfflineAgent(j);
+        JobRestrictionProperty accepting = new JobRestrictionProperty(new RegexNameRestriction("proj.*", false));
+        JobRestrictionProperty otherAccepting = new JobRestrictionProperty(new RegexNameRestriction("project", false));
+        JobRestrictionProperty rejecting = new JobRestrictionProperty(new RegexNameRestriction("other", false));
+
+        assertThat("Unchanged restriction should not trigger maintenance",
+                NodeRestrictionChanges.onChange(accepting, accepting).get(), is(false));
+        assertThat("Restriction accepting the same items should not trigger maintenance",
+                NodeRestrictionChanges.onChange(accepting, otherAccepting).get(), is(false));
+        assertThat(NodeRestrictionChanges.onChange(null, otherAccepting).get(), is(false));
+        assertThat(NodeRestrictionChanges.onChange(otherAccepting, rejecting).get(), is(true));
+        assertThat(NodeRestrictionChanges.onChange(rejecting, null).get(), is(true));
+
+        QueueItemCache.Entry entry = QueueItemCache.get(item);
+        assertThat(entry, notNullValue());
+        assertThat(entry.getDecision(otherAccepting.getCompiledRestriction()), notNullValue());
+        assertThat(entry.getDecision(rejecting.getCompiledRestriction()), notNullValue());
+    }
+
+    @Test
+    void shouldReevaluateItemsWhenNodeIsSaved(JenkinsRule j) throws Exception {
+        Queue.BuildableItem item = scheduleOnOfflineAgent(j);
+        QueueItemCache.Entry entry = QueueItemCache.get(item);
+        assertThat(entry, notNullValue());
+
+        DumbSlave replacement = new DumbSlave("agent", "/tmp/agent", new JNLPLauncher());
+        replacement.setLabelString("agent");
+        JobRestrictionProperty replacementProperty =
+                new JobRestrictionProperty(new RegexNameRestriction("another", false));
+        replacement.getNodeProperties().add(replacementProperty);
+        j.jenkins.getNodesObject().replaceNode(j.jenkins.getNode("agent"), replacement);
+
+        // The evaluation runs in background, wait until the decision gets cached
+        QueueItemCache.Decision decision;
+        while ((decision = entry.getDecision(replacementProperty.getCompiledRestriction())) == null) {
+            Thread.sleep(10);
+        }
+        assertThat(decision.getBlockage(), notNullValue());
+    }
+
+    private static Queue.BuildableItem scheduleOnOfflineAgent(JenkinsRule j) throws Exception {
+        DumbSlave agent = new DumbSlave("agent", "/tmp/agent", new JNLPLauncher());
+        agent.setLabelString("agent");
+        j.jenkins.addNode(agent);
+        FreeStyleProject project = j.createFreeStyleProject("project");
+        project.setAssignedLabel(Label.get("agent"));
+        project.scheduleBuild2(0);
+        j.jenkins.getQueue().maintain();
+        List<Queue.BuildableItem> items = j.jenkins.getQueue().getBuildableItems();
+        assertThat(items, hasSize(1));
+        return items.get(0);
+    }
+}
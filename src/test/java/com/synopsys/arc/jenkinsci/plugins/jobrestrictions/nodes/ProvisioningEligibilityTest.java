@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.QueueItemCache;
+import hudson.model.FreeStyleProject;
+import hudson.model.Label;
+import hudson.model.Queue;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link ProvisioningEligibility}.
+ */
+@WithJenkins
+class ProvisioningEligibilityTest {
+
+    @Test
+    void shouldEvaluateTemplatesAgainstPendingLoad(JenkinsRule j) throws Exception {
+        FreeStyleProject project = j.createFreeStyleProject("project");
+        project.setAssignedLabel(Label.get("cloud"));
+        FreeStyleProject other = j.createFreeStyleProject("other");
+        other.setAssignedLabel(Label.get("cloud"));
+        project.scheduleBuild2(0);
+        other.scheduleBuild2(0);
+        j.jenkins.getQueue().maintain();
+        assertThat(j.jenkins.getQueue().getBuildableItems(), hasSize(2));
+
+        RegexNameRestriction template = new RegexNameRestriction("proj.*", false);
+        List<Queue.BuildableItem> accepted = ProvisioningEligibility.getAcceptedItems(template, Label.get("cloud"));
+        assertThat(accepted, hasSize(1));
+        assertThat(accepted.get(0).task, is((Queue.Task) project));
+        assertThat(ProvisioningEligibility.getAcceptedItems(template, Label.get("static")), empty());
+        assertThat(
+                ProvisioningEligibility.getAcceptedItems(new RegexNameRestriction("none", false), Label.get("cloud")),
+                empty());
+
+        // Templates with equal restrictions share the cached decisions
+        QueueItemCache.Entry entry = QueueItemCache.get(accepted.get(0));
+        assertThat(entry, notNullValue());
+        RegexNameRestriction sameTemplate = new RegexNameRestriction("proj.*", false);
+        assertThat(entry.getDecision(ProvisioningEligibility.getCacheKey(sameTemplate)), notNullValue());
+        assertThat(
+                ProvisioningEligibility.getAcceptedItems(sameTemplate, Label.get("cloud")), contains(accepted.get(0)));
+        assertThat(
+                ProvisioningEligibility.getCacheKey(sameTemplate),
+                not(ProvisioningEligibility.getCacheKey(new RegexNameRestriction("proj", false))));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import hudson.model.FreeStyleProject;
+import hudson.model.Queue;
+import hudson.slaves.DumbSlave;
+import hudson.slaves.JNLPLauncher;
+import hudson.util.FormValidation;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import jenkins.model.Jenkins;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link RestrictionPolicy}.
+ */
+@WithJenkins
+class RestrictionPolicyTest {
+
+    @Test
+    void shouldApplyPolicyToMatchingNodes(JenkinsRule j) throws Exception {
+        DumbSlave pool = new DumbSlave("pool-1", "/tmp/pool-1", new JNLPLauncher());
+        pool.setLabelString("pool");
+        j.jenkins.addNode(pool);
+        DumbSlave other = new DumbSlave("other", "/tmp/other", new JNLPLauncher());
+        j.jenkins.addNode(other);
+        JobRestrictionsConfiguration.get()
+                .setPolicies(Collections.singletonList(
+                        new RestrictionPolicy("pool", "pool-.*", new RegexNameRestriction("a.*", false))));
+
+        FreeStyleProject accepted = j.createFreeStyleProject("a");
+        FreeStyleProject rejected = j.createFreeStyleProject("b");
+        RestrictionPolicyDispatcher dispatcher = new RestrictionPolicyDispatcher();
+        assertThat(dispatcher.canTake(pool, createItem(accepted)), nullValue());
+        assertThat(dispatcher.canTake(pool, createItem(rejected)), notNullValue());
+        assertThat(dispatcher.canTake(other, createItem(rejected)), nullValue());
+
+        NodeEligibility.Matrix matrix = NodeEligibility.evaluate(
+                NodeEligibility.getTasks(Arrays.asList("a", "b")),
+                NodeEligibility.getNodes(Arrays.asList("pool-1", "other")));
+        assertThat(matrix.getRow(0), is("11"));
+        assertThat(matrix.getRow(1), is("01"));
+    }
+
+    @Test
+    void shouldNotApplyPolicyWithInvalidNodeNamePattern(JenkinsRule j) throws Exception {
+        DumbSlave pool = new DumbSlave("pool-1", "/tmp/pool-1", new JNLPLauncher());
+        j.jenkins.addNode(pool);
+        RestrictionPolicy policy = new RestrictionPolicy(null, "pool-[", new RegexNameRestriction("a.*", false));
+        assertThat(policy.appliesTo(pool), is(false));
+        assertThat(policy.appliesTo(j.jenkins), is(false));
+
+        RestrictionPolicy.DescriptorImpl descriptor =
+                j.jenkins.getDescriptorByType(RestrictionPolicy.DescriptorImpl.class);
+        assertThat(descriptor.doCheckNodeNamePattern("pool-[").kind, is(FormValidation.Kind.ERROR));
+        assertThat(descriptor.doCheckNodeNamePattern("pool-.*").kind, is(FormValidation.Kind.OK));
+    }
+
+    @Test
+    void shouldShareEqualRestrictionTrees(JenkinsRule j) {
+        RestrictionPolicy policy = new RestrictionPolicy("pool", null, new RegexNameRestriction("a.*", false));
+        RestrictionPolicy samePolicy = new RestrictionPolicy(null, "pool-.*", new RegexNameRestriction("a.*", false));
+        JobRestrictionProperty property = new JobRestrictionProperty(new RegexNameRestriction("a.*", false));
+        assertThat(samePolicy.getJobRestriction(), sameInstance(policy.getJobRestriction()));
+        assertThat(property.getJobRestriction(), sameInstance(policy.getJobRestriction()));
+
+        RestrictionPolicy loaded = (RestrictionPolicy) Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(policy));
+        assertThat(loaded.getJobRestriction(), sameInstance(policy.getJobRestriction()));
+        assertThat(loaded.getCompiledRestriction(), sameInstance(policy.getCompiledRestriction()));
+    }
+
+    @Test
+    void shouldKeepPoliciesOnConfigRoundtrip(JenkinsRule j) throws Exception {
+        JobRestrictionsConfiguration.get()
+                .setPolicies(Collections.singletonList(
+                        new RestrictionPolicy("pool", null, new RegexNameRestriction("a.*", false))));
+
+        j.configRoundtrip();
+
+        assertThat(JobRestrictionsConfiguration.get().getPolicies(), hasSize(1));
+        RestrictionPolicy policy = JobRestrictionsConfiguration.get().getPolicies().get(0);
+        assertThat(policy.getLabelExpression(), is("pool"));
+        assertThat(policy.getNodeNamePattern(), nullValue());
+        assertThat(((RegexNameRestriction) policy.getJobRestriction()).getRegexExpression(), is("a.*"));
+    }
+
+    private static Queue.BuildableItem createItem(Queue.Task task) {
+        return new Queue.BuildableItem(new Queue.WaitingItem(Calendar.getInstance(), task, Collections.emptyList()));
+    }
+}
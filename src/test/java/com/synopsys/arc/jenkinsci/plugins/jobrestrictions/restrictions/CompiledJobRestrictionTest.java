@@ -0,0 +1,263 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.metrics.RestrictionMetrics;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.AndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.AnyJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleAndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleOrJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.NotJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.OrJobRestriction;
+import hudson.model.FreeStyleProject;
+import hudson.model.Queue;
+import hudson.model.Run;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link CompiledJobRestriction}.
+ */
+@WithJenkins
+class CompiledJobRestrictionTest {
+
+    private JenkinsRule j;
+
+    private List<Queue.BuildableItem> items;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) throws Exception {
+        j = rule;
+        items = new ArrayList<>();
+        for (String name : Arrays.asList("a", "b", "ab", "ba", "c")) {
+            FreeStyleProject project = j.createFreeStyleProject(name);
+            items.add(new Queue.BuildableItem(
+                    new Queue.WaitingItem(Calendar.getInstance(), project, Collections.emptyList())));
+        }
+    }
+
+    @Test
+    void shouldBehaveLikeTheTree() {
+        JobRestriction startsWithA = new RegexNameRestriction("a.*", false);
+        JobRestriction endsWithB = new RegexNameRestriction(".*b", false);
+        JobRestriction isC = new RegexNameRestriction("c", false);
+
+        assertSameBehavior(startsWithA);
+        assertSameBehavior(new AndJobRestriction(startsWithA, endsWithB));
+        assertSameBehavior(new AndJobRestriction(startsWithA, new NotJobRestriction(endsWithB)));
+        assertSameBehavior(new OrJobRestriction(new NotJobRestriction(startsWithA), isC));
+        assertSameBehavior(new NotJobRestriction(new OrJobRestriction(startsWithA, endsWithB)));
+        assertSameBehavior(new MultipleOrJobRestriction(list(startsWithA, endsWithB, isC)));
+        assertSameBehavior(new MultipleAndJobRestriction(list(
+                new NotJobRestriction(isC), new MultipleOrJobRestriction(list(startsWithA, endsWithB)))));
+        assertSameBehavior(new MultipleAndJobRestriction(new ArrayList<>()));
+        assertSameBehavior(new MultipleOrJobRestriction(new ArrayList<>()));
+    }
+
+    @Test
+    void shouldSupportRestrictionsWithoutContextSupport() {
+        JobRestriction legacy = new LegacyRestriction();
+        JobRestriction endsWithB = new RegexNameRestriction(".*b", false);
+
+        assertSameBehavior(legacy);
+        assertSameBehavior(new AndJobRestriction(legacy, endsWithB));
+        assertSameBehavior(new OrJobRestriction(new NotJobRestriction(legacy), endsWithB));
+
+        CompiledJobRestriction compiled = CompiledJobRestriction.compile(legacy);
+        assertThat(compiled.canTake(items.get(0)), equalTo(true));
+        assertThat(compiled.canTake(items.get(1)), equalTo(false));
+
+        // The context of a task, which is not in the queue, creates the item for the bridge
+        assertThat(compiled.canTake(new JobRestrictionContext(items.get(2).task, Collections.emptyList())),
+                equalTo(true));
+        assertThat(compiled.canTake(new JobRestrictionContext(items.get(1).task, Collections.emptyList())),
+                equalTo(false));
+    }
+
+    @Test
+    void shouldFoldConstants() {
+        JobRestriction startsWithA = new RegexNameRestriction("a.*", false);
+
+        assertFolded(new NotJobRestriction(new NotJobRestriction(startsWithA)), 1);
+        assertFolded(new AndJobRestriction(new AnyJobRestriction(), startsWithA), 1);
+        assertFolded(new OrJobRestriction(new AnyJobRestriction(), startsWithA), 0);
+        assertFolded(new AndJobRestriction(new NotJobRestriction(new AnyJobRestriction()), startsWithA), 0);
+        assertFolded(new MultipleOrJobRestriction(list(startsWithA, new AnyJobRestriction())), 1);
+    }
+
+    @Test
+    void shouldMergeRegexNames() {
+        JobRestriction startsWithA = new RegexNameRestriction("a.*", false);
+        JobRestriction isAb = new RegexNameRestriction("ab", false);
+        JobRestriction endsWithA = new RegexNameRestriction(".*a", false);
+        JobRestriction isC = new RegexNameRestriction("c", false);
+        JobRestriction invalid = new RegexNameRestriction("[", false);
+
+        assertFolded(new MultipleOrJobRestriction(list(isAb, isC)), 1);
+        assertFolded(new MultipleOrJobRestriction(list(startsWithA, isAb, endsWithA)), 1);
+        assertFolded(new MultipleOrJobRestriction(list(isAb, new NotJobRestriction(startsWithA), isC)), 2);
+        assertFolded(new MultipleOrJobRestriction(list(isAb, invalid)), 1);
+        assertFolded(new MultipleAndJobRestriction(list(new MultipleOrJobRestriction(list(isAb, isC)), endsWithA)), 2);
+    }
+
+    @Test
+    void shouldExplainBlockage() {
+        JobRestriction endsWithB = new RegexNameRestriction(".*b", false);
+        JobRestriction startsWithC = new RegexNameRestriction("c.*", false);
+        Queue.BuildableItem a = items.get(0);
+        Queue.BuildableItem ab = items.get(2);
+
+        CompiledJobRestriction compiled = CompiledJobRestriction.compile(endsWithB);
+        JobRestrictionBlockageCause cause = compiled.getCauseOfBlockage(new JobRestrictionContext(a));
+        assertThat(cause, instanceOf(JobRestrictionBlockageCause.ByRestriction.class));
+        assertThat(((JobRestrictionBlockageCause.ByRestriction) cause).getRestriction(), sameInstance(endsWithB));
+        assertThat(cause.getShortDescription(), containsString(".*b"));
+        assertThat(compiled.getCauseOfBlockage(new JobRestrictionContext(ab)), nullValue());
+
+        compiled = CompiledJobRestriction.compile(new NotJobRestriction(endsWithB));
+        cause = compiled.getCauseOfBlockage(new JobRestrictionContext(ab));
+        assertThat(((JobRestrictionBlockageCause.ByRestriction) cause).isNegated(), equalTo(true));
+        assertThat(compiled.getCauseOfBlockage(new JobRestrictionContext(ab)), sameInstance(cause));
+
+        // Rejected by the prefilter, the cause still refers the leaf
+        compiled = CompiledJobRestriction.compile(startsWithC);
+        assertThat(compiled.mayTake(new JobRestrictionContext(a)), equalTo(false));
+        cause = compiled.getCauseOfBlockage(new JobRestrictionContext(a));
+        assertThat(((JobRestrictionBlockageCause.ByRestriction) cause).getRestriction(), sameInstance(startsWithC));
+
+        JobRestriction startsWithB = new RegexNameRestriction("b.*", false);
+        compiled = CompiledJobRestriction.compile(
+                new AndJobRestriction(new OrJobRestriction(startsWithB, startsWithC), endsWithB));
+        assertThat(compiled.mayTake(new JobRestrictionContext(a)), equalTo(false));
+        cause = compiled.getCauseOfBlockage(new JobRestrictionContext(a));
+        assertThat(cause, instanceOf(JobRestrictionBlockageCause.ByRestriction.class));
+        assertThat(cause.getShortDescription(), containsString("c.*"));
+    }
+
+    @Test
+    void shouldRecordMetricsPerLeafType() {
+        RestrictionMetrics metrics = RestrictionMetrics.get();
+        metrics.reset();
+        CompiledJobRestriction compiled = CompiledJobRestriction.compile(new MultipleOrJobRestriction(list(
+                new RegexNameRestriction("x", false), new NotJobRestriction(new RegexNameRestriction("a", false)))));
+        assertThat(compiled.canTake(items.get(0)), equalTo(false));
+
+        RestrictionMetrics.Stats stats =
+                metrics.getStats(RestrictionMetrics.RESTRICTIONS, RegexNameRestriction.class.getName());
+        assertThat(stats.getEvaluations(), equalTo(2L));
+        assertThat(stats.getBlocks(), equalTo(1L));
+        assertThat(
+                metrics.getStats(RestrictionMetrics.RESTRICTIONS, MultipleOrJobRestriction.class.getName()),
+                nullValue());
+    }
+
+    @Test
+    void shouldInternEqualTrees() {
+        JobRestriction first = new AndJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ab", false)));
+        JobRestriction second = new AndJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ab", false)));
+        JobRestriction other = new AndJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ac", false)));
+        assertThat(second, equalTo(first));
+        assertThat(second.hashCode(), equalTo(first.hashCode()));
+        assertThat(other, not(equalTo(first)));
+
+        CompiledJobRestriction compiled = CompiledJobRestriction.intern(first);
+        assertThat(CompiledJobRestriction.intern(second), sameInstance(compiled));
+        assertThat(compiled.getSource(), sameInstance(first));
+        assertThat(CompiledJobRestriction.intern(other), not(sameInstance(compiled)));
+    }
+
+    @Test
+    void shouldFingerprintTheContent() {
+        JobRestriction first = new OrJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ab", true)));
+        JobRestriction second = new OrJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ab", true)));
+        JobRestriction otherLeaf = new OrJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ab", false)));
+        JobRestriction otherOperator = new AndJobRestriction(
+                new RegexNameRestriction("a.*", false), new NotJobRestriction(new RegexNameRestriction("ab", true)));
+        assertThat(second.getFingerprint(), equalTo(first.getFingerprint()));
+        assertThat(otherLeaf.getFingerprint(), not(equalTo(first.getFingerprint())));
+        assertThat(otherOperator.getFingerprint(), not(equalTo(first.getFingerprint())));
+        assertThat(new AnyJobRestriction().getFingerprint(), equalTo(JobRestriction.DEFAULT.getFingerprint()));
+    }
+
+    private void assertFolded(JobRestriction restriction, int expectedLeaves) {
+        assertThat(
+                "Unexpected number of leaves in the compiled restriction",
+                CompiledJobRestriction.compile(restriction).getLeafCount(),
+                equalTo(expectedLeaves));
+        assertSameBehavior(restriction);
+    }
+
+    private void assertSameBehavior(JobRestriction restriction) {
+        CompiledJobRestriction compiled = CompiledJobRestriction.compile(restriction);
+        for (Queue.BuildableItem item : items) {
+            assertThat(
+                    "Compiled restriction differs from the tree for " + item.task.getName(),
+                    compiled.canTake(item),
+                    equalTo(restriction.canTake(item)));
+        }
+    }
+
+    private static ArrayList<JobRestriction> list(JobRestriction... restrictions) {
+        return new ArrayList<>(Arrays.asList(restrictions));
+    }
+
+    /**
+     * Third-party restriction, which implements only the item check.
+     * Contexts are passed to it through the default bridge of {@link JobRestriction}.
+     */
+    private static final class LegacyRestriction extends JobRestriction {
+
+        @Override
+        public boolean canTake(Queue.BuildableItem item) {
+            return item.task.getName().startsWith("a");
+        }
+
+        @Override
+        public boolean canTake(Run run) {
+            return run.getParent().getName().startsWith("a");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.FolderSelector;
+import hudson.util.XStream2;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link FolderPrefixRestriction}.
+ */
+class FolderPrefixRestrictionTest {
+
+    @Test
+    void shouldMatchBySegments() {
+        FolderPrefixRestriction restriction = new FolderPrefixRestriction(Arrays.asList(
+                new FolderSelector("team/app"), new FolderSelector("/infra/"), new FolderSelector("  ")));
+
+        assertThat(restriction.canTake("team/app/build"), is(true));
+        assertThat(restriction.canTake("team/app/nested/build"), is(true));
+        assertThat(restriction.canTake("infra/deploy"), is(true));
+        assertThat(restriction.canTake("team/application/build"), is(false));
+        assertThat(restriction.canTake("team/build"), is(false));
+        assertThat(restriction.canTake("team/app"), is(false));
+        assertThat(restriction.canTake("build"), is(false));
+        assertThat(restriction.getPrefixes(), contains("team/app/", "infra/"));
+    }
+
+    @Test
+    void shouldUseTheSameSegmentsForPrefixesAfterLoadingFromXml() {
+        // Selectors are normalized only by the constructor, XStream bypasses it
+        FolderPrefixRestriction restriction = (FolderPrefixRestriction) new XStream2().fromXML(
+                "<" + FolderPrefixRestriction.class.getName() + ">"
+                        + "<folders>"
+                        + "<" + FolderSelector.class.getName() + "><selectedFolder>a//b/</selectedFolder></"
+                        + FolderSelector.class.getName() + ">"
+                        + "<" + FolderSelector.class.getName() + "><selectedFolder>/</selectedFolder></"
+                        + FolderSelector.class.getName() + ">"
+                        + "</folders>"
+                        + "</" + FolderPrefixRestriction.class.getName() + ">");
+
+        assertThat(restriction.getPrefixes(), contains("a/b/"));
+        assertThat(restriction.canTake("a/b/build"), is(true));
+        assertThat(restriction.canTake("a/build"), is(false));
+        assertThat(restriction.canTake("build"), is(false));
+        for (String name : Arrays.asList("a/b/build", "a/build", "build")) {
+            boolean prefixed = restriction.getPrefixes().stream().anyMatch(name::startsWith);
+            assertThat("Prefixes should agree with the trie for " + name, prefixed, is(restriction.canTake(name)));
+        }
+    }
+
+    @Test
+    void shouldRejectEverythingIfFoldersAreMissingInXml() {
+        FolderPrefixRestriction restriction = (FolderPrefixRestriction) new XStream2().fromXML(
+                "<" + FolderPrefixRestriction.class.getName() + "/>");
+
+        assertThat(restriction.getFolders(), empty());
+        assertThat(restriction.getPrefixes(), empty());
+        assertThat(restriction.canTake("team/app/build"), is(false));
+        assertThat(restriction, is(new FolderPrefixRestriction(null)));
+    }
+
+    @Test
+    void shouldRejectEverythingWithoutFolders() {
+        FolderPrefixRestriction restriction = new FolderPrefixRestriction(Collections.emptyList());
+        assertThat(restriction.canTake("team/app/build"), is(false));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RegexNameRestriction}.
+ */
+class RegexNameRestrictionTest {
+
+    @Test
+    void shouldMatchFullName() {
+        RegexNameRestriction restriction = new RegexNameRestriction("QA_.*", false);
+        assertThat(restriction.canTake("QA_job"), is(true));
+        assertThat(restriction.canTake("folder/QA_job"), is(false));
+        // Repeated checks use the cached pattern
+        assertThat(restriction.canTake("QA_job"), is(true));
+    }
+
+    @Test
+    void shouldIgnoreInvalidPattern() {
+        RegexNameRestriction restriction = new RegexNameRestriction("QA_(", false);
+        assertThat(restriction.canTake("QA_job"), is(true));
+        assertThat(restriction.canTake("anything"), is(true));
+    }
+
+    @Test
+    void shouldExtractLiteralPrefix() {
+        assertThat(RegexNameRestriction.getLiteralPrefix("team-a/.*"), is("team-a/"));
+        assertThat(RegexNameRestriction.getLiteralPrefix("QA_\\.job"), is("QA_.job"));
+        assertThat(RegexNameRestriction.getLiteralPrefix("abc?"), is("ab"));
+        assertThat(RegexNameRestriction.getLiteralPrefix("ab+c"), is("ab"));
+        assertThat(RegexNameRestriction.getLiteralPrefix("ab(c)"), is("ab"));
+        assertThat(RegexNameRestriction.getLiteralPrefix("a\\d"), is("a"));
+        assertThat(RegexNameRestriction.getLiteralPrefix("a|b"), is(""));
+        assertThat(RegexNameRestriction.getLiteralPrefix("(?i)abc"), is(""));
+        assertThat(new RegexNameRestriction("QA_(", false).getLiteralPrefix(), is(""));
+    }
+
+    @Test
+    void shouldRestorePatternAfterDeserialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new RegexNameRestriction("team-a/.*", false));
+        }
+        RegexNameRestriction restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (RegexNameRestriction) in.readObject();
+        }
+        assertThat(restored.canTake("team-a/job"), is(true));
+        assertThat(restored.canTake("team-b/job"), is(false));
+    }
+}
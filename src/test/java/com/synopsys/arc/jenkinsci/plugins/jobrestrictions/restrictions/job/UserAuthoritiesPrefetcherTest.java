@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes.JobRestrictionProperty;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestrictionBlockageCause;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.AndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.OrJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.GroupSelector;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserAuthoritiesCache;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserSelector;
+import hudson.model.Cause;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.model.Label;
+import hudson.model.Queue;
+import hudson.model.queue.CauseOfBlockage;
+import hudson.model.queue.QueueTaskFuture;
+import hudson.security.AbstractPasswordBasedSecurityRealm;
+import hudson.security.GroupDetails;
+import hudson.slaves.DumbSlave;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Tests of {@link UserAuthoritiesPrefetcher}.
+ */
+@WithJenkins
+class UserAuthoritiesPrefetcherTest {
+
+    /**Keeps items in the queue during the test.*/
+    private static final int QUIET_PERIOD = 1000;
+
+    private JenkinsRule j;
+
+    private SlowSecurityRealm realm;
+
+    private FreeStyleProject project;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) throws Exception {
+        j = rule;
+        realm = new SlowSecurityRealm();
+        j.jenkins.setSecurityRealm(realm);
+        JobRestrictionsConfiguration config = JobRestrictionsConfiguration.get();
+        assertThat("Background resolution should be opt-in", config.isAsyncAuthoritiesResolution(), is(false));
+        config.setAsyncAuthoritiesResolution(true);
+        UserAuthoritiesCache.get().invalidate();
+        project = j.createFreeStyleProject("project");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Do not leave prefetch threads waiting for the realm
+        realm.release();
+    }
+
+    @Test
+    void shouldReportResolvingGroupsUntilGroupsAreLoaded() throws Exception {
+        JobRestrictionProperty property = new JobRestrictionProperty(developers());
+        project.scheduleBuild2(QUIET_PERIOD, new Cause.UserIdCause("alice"));
+        assertThat(property.canTake(getItem()), is(JobRestrictionBlockageCause.RESOLVING_GROUPS));
+        assertThat(property.canTake(getItem()), is(JobRestrictionBlockageCause.RESOLVING_GROUPS));
+
+        realm.release();
+        awaitResolution("alice");
+        assertThat(property.canTake(getItem()), nullValue());
+        assertThat(realm.loads.get(), is(1));
+    }
+
+    @Test
+    void shouldNotWaitForGroupsIfTheyDoNotAffectTheDecision() throws Exception {
+        project.scheduleBuild2(QUIET_PERIOD, new Cause.UserIdCause("alice"));
+
+        // Accepted regardless of groups
+        JobRestrictionProperty accepting = new JobRestrictionProperty(new OrJobRestriction(
+                developers(),
+                new StartedByUserRestriction(
+                        Collections.singletonList(new UserSelector("alice")), false, false, false)));
+        assertThat(accepting.canTake(getItem()), nullValue());
+
+        // Rejected regardless of groups, the rejecting leaf is reported
+        RegexNameRestriction other = new RegexNameRestriction("other", false);
+        JobRestrictionProperty rejecting = new JobRestrictionProperty(new AndJobRestriction(developers(), other));
+        CauseOfBlockage cause = rejecting.canTake(getItem());
+        assertThat(cause, instanceOf(JobRestrictionBlockageCause.ByRestriction.class));
+        assertThat(((JobRestrictionBlockageCause.ByRestriction) cause).getRestriction(), equalTo(other));
+
+        // Depends on groups
+        JobRestrictionProperty pending = new JobRestrictionProperty(new AndJobRestriction(
+                developers(), new RegexNameRestriction("proj.*", false)));
+        assertThat(pending.canTake(getItem()), is(JobRestrictionBlockageCause.RESOLVING_GROUPS));
+    }
+
+    @Test
+    void shouldRunBuildWhenGroupsAreResolved() throws Exception {
+        DumbSlave agent = j.createOnlineSlave(Label.get("restricted"));
+        agent.getNodeProperties().add(new JobRestrictionProperty(developers()));
+        project.setAssignedLabel(Label.get("restricted"));
+
+        QueueTaskFuture<FreeStyleBuild> future = project.scheduleBuild2(0, new Cause.UserIdCause("alice"));
+        Thread.sleep(2000);
+        assertThat(future.isDone(), is(false));
+        Queue.Item item = j.jenkins.getQueue().getItem(project);
+        assertThat(item, notNullValue());
+        assertThat(item.isBuildable(), is(true));
+
+        // The prefetcher schedules the Queue maintenance, so the build starts once the groups are loaded
+        realm.release();
+        FreeStyleBuild build = j.assertBuildStatusSuccess(future);
+        assertThat(build.getBuiltOnStr(), is(agent.getNodeName()));
+    }
+
+    private static JobRestriction developers() {
+        return new StartedByMemberOfGroupRestriction(Collections.singletonList(new GroupSelector("developers")), false);
+    }
+
+    private Queue.BuildableItem getItem() {
+        final Queue.Item item = j.jenkins.getQueue().getItem(project);
+        assertThat(item, notNullValue());
+        return new Queue.BuildableItem((Queue.WaitingItem) item);
+    }
+
+    private static void awaitResolution(String userId) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (UserAuthoritiesCache.get().getIfPresent(userId) == null) {
+            assertThat("Authorities of " + userId + " have not been resolved", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Security realm, which does not return users until released.
+     * All users are members of the {@code developers} group.
+     */
+    private static final class SlowSecurityRealm extends AbstractPasswordBasedSecurityRealm {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        void release() {
+            latch.countDown();
+        }
+
+        @Override
+        public UserDetails loadUserByUsername2(String username) throws UsernameNotFoundException {
+            try {
+                latch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new UsernameNotFoundException("Interrupted", ex);
+            }
+            loads.incrementAndGet();
+            return new User(username, "", Collections.singletonList(new SimpleGrantedAuthority("developers")));
+        }
+
+        @Override
+        protected UserDetails authenticate2(String username, String password) throws AuthenticationException {
+            return loadUserByUsername2(username);
+        }
+
+        @Override
+        public GroupDetails loadGroupByGroupname2(String groupname, boolean fetchMembers) {
+            throw new UsernameNotFoundException(groupname);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserSelector;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.model.Cause;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link UserCauseChain}.
+ * Results are compared with the recursive walk over causes, which was used before the chain was introduced.
+ */
+@WithJenkins
+class UserCauseChainTest {
+
+    private static final List<String> USERS = Arrays.asList("alice", "bob", null);
+
+    private JenkinsRule j;
+
+    private StartedByUserRestriction withUpstream;
+
+    private StartedByUserRestriction withoutUpstream;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) {
+        j = rule;
+        withUpstream = aliceOnly(true);
+        withoutUpstream = aliceOnly(false);
+    }
+
+    @Test
+    void shouldFollowNestedUpstreamCauses() {
+        // alice -> upstream -> downstream
+        List<Cause> chain = Collections.singletonList(upstream(upstream(new Cause.UserIdCause("alice"))));
+        assertAgrees(chain, true, false);
+
+        // bob started the downstream build directly, the upstream chain of alice does not matter
+        chain = Arrays.asList(upstream(upstream(new Cause.UserIdCause("alice"))), new Cause.UserIdCause("bob"));
+        assertAgrees(chain, false, false);
+
+        // One of upstream chains is enough
+        chain = Arrays.asList(
+                upstream(upstream(new Cause.UserIdCause("bob"))),
+                upstream(new Cause.RemoteCause("host", "note")),
+                upstream(upstream(new Cause.UserIdCause("alice"))));
+        assertAgrees(chain, true, false);
+
+        // All direct users should be accepted
+        chain = Collections.singletonList(
+                upstream(new Cause.UserIdCause("alice"), new Cause.UserIdCause("bob")));
+        assertAgrees(chain, false, false);
+    }
+
+    @Test
+    void shouldAgreeWithRecursiveWalkOnRandomTrees() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            final List<Cause> causes = randomCauses(random, 0);
+            for (StartedByUserRestriction restriction : Arrays.asList(withUpstream, withoutUpstream)) {
+                assertThat(
+                        "Chain disagrees with the recursive walk for " + describe(causes),
+                        UserCauseChain.of(causes).accepts(restriction, null),
+                        is(recursiveWalk(restriction, causes)));
+            }
+        }
+    }
+
+    @Test
+    void shouldStopAtDepthCutoff() throws Exception {
+        // Deeper than Cause.UpstreamCause.MAX_DEPTH, so the user is trimmed when the chain is recorded from a run
+        Cause deep = new Cause.UserIdCause("alice");
+        for (int i = 0; i < 12; i++) {
+            deep = upstream(deep);
+        }
+        assertAgrees(Collections.singletonList(deep), true, false);
+
+        FreeStyleProject project = j.createFreeStyleProject("upstream");
+        FreeStyleBuild build = j.assertBuildStatusSuccess(project.scheduleBuild2(0, deep));
+        List<Cause> trimmed = Collections.singletonList(new Cause.UpstreamCause(build));
+        assertAgrees(trimmed, false, false);
+    }
+
+    private void assertAgrees(List<Cause> causes, boolean expectedWithUpstream, boolean expectedWithoutUpstream) {
+        assertThat(recursiveWalk(withUpstream, causes), is(expectedWithUpstream));
+        assertThat(UserCauseChain.of(causes).accepts(withUpstream, null), is(expectedWithUpstream));
+        assertThat(withUpstream.canTake(causes), is(expectedWithUpstream));
+        assertThat(recursiveWalk(withoutUpstream, causes), is(expectedWithoutUpstream));
+        assertThat(UserCauseChain.of(causes).accepts(withoutUpstream, null), is(expectedWithoutUpstream));
+        assertThat(withoutUpstream.canTake(causes), is(expectedWithoutUpstream));
+    }
+
+    /**
+     * The walk of {@link AbstractUserCauseRestriction} before {@link UserCauseChain} was introduced.
+     */
+    private static boolean recursiveWalk(AbstractUserCauseRestriction restriction, List<Cause> causes) {
+        boolean userIdCause = false;
+        boolean upstreamCause = false;
+        boolean aUserIdWasNotAccepted = false;
+        boolean userIdCauseExists = false;
+
+        for (@CheckForNull Cause cause : causes) {
+            if (cause == null) {
+                continue;
+            }
+            if (cause.getClass().equals(Cause.UserIdCause.class) && !aUserIdWasNotAccepted) {
+                userIdCauseExists = true;
+                if (restriction.acceptsUser(((Cause.UserIdCause) cause).getUserId())) {
+                    userIdCause = true;
+                } else {
+                    aUserIdWasNotAccepted = true;
+                    userIdCause = false;
+                }
+            }
+            if (restriction.isCheckUpstreamProjects() && cause.getClass().equals(Cause.UpstreamCause.class)) {
+                if (recursiveWalk(restriction, ((Cause.UpstreamCause) cause).getUpstreamCauses())) {
+                    upstreamCause = true;
+                }
+            }
+        }
+        return userIdCauseExists ? userIdCause : upstreamCause;
+    }
+
+    private static List<Cause> randomCauses(Random random, int depth) {
+        final int size = random.nextInt(depth == 0 ? 4 : 3);
+        final List<Cause> causes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int kind = random.nextInt(depth < 4 ? 3 : 2);
+            if (kind == 0) {
+                causes.add(new Cause.UserIdCause(USERS.get(random.nextInt(USERS.size()))));
+            } else if (kind == 1) {
+                causes.add(new Cause.RemoteCause("host", "note"));
+            } else {
+                causes.add(new Cause.UpstreamCause("job", i, "job/job/", randomCauses(random, depth + 1)));
+            }
+        }
+        return causes;
+    }
+
+    private static String describe(List<Cause> causes) {
+        final StringBuilder res = new StringBuilder("[");
+        for (Cause cause : causes) {
+            if (res.length() > 1) {
+                res.append(", ");
+            }
+            if (cause instanceof Cause.UserIdCause) {
+                res.append("user:").append(((Cause.UserIdCause) cause).getUserId());
+            } else if (cause instanceof Cause.UpstreamCause) {
+                res.append("upstream:").append(describe(((Cause.UpstreamCause) cause).getUpstreamCauses()));
+            } else {
+                res.append(cause.getClass().getSimpleName());
+            }
+        }
+        return res.append(']').toString();
+    }
+
+    private static Cause upstream(Cause... causes) {
+        return new Cause.UpstreamCause("job", 1, "job/job/", Arrays.asList(causes));
+    }
+
+    private static StartedByUserRestriction aliceOnly(boolean checkUpstreamProjects) {
+        return new StartedByUserRestriction(
+                Collections.singletonList(new UserSelector("alice")), checkUpstreamProjects, false, false);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CompactStringSet}.
+ */
+class CompactStringSetTest {
+
+    @Test
+    void shouldMatchElements() {
+        CompactStringSet set = CompactStringSet.of(Arrays.asList("alice", "bob", null, "alice"));
+
+        assertThat(set.size(), is(2));
+        assertThat(set.contains("alice"), is(true));
+        assertThat(set.contains(new String("bob".toCharArray())), is(true));
+        assertThat(set.contains("carol"), is(false));
+        assertThat(set.contains(null), is(false));
+        assertThat(CompactStringSet.of(null).contains("alice"), is(false));
+    }
+
+    @Test
+    void shouldHandleCollisions() {
+        // "Aa" and "BB" have the same hash code
+        List<String> values = new ArrayList<>(Arrays.asList("Aa", "BB", "AaAa", "BBBB", "AaBB"));
+        for (int i = 0; i < 1000; i++) {
+            values.add("user" + i);
+        }
+        CompactStringSet set = CompactStringSet.of(values);
+
+        assertThat(set.size(), is(values.size()));
+        for (String value : values) {
+            assertThat(set.contains(value), is(true));
+        }
+        assertThat(set.contains("BBAa"), is(false));
+        assertThat(set.contains("user1000"), is(false));
+    }
+}
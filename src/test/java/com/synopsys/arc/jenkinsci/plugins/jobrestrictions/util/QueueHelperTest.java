@@ -0,0 +1,157 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import hudson.model.FreeStyleProject;
+import hudson.model.Queue;
+import java.util.Calendar;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.MockFolder;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link QueueHelper}.
+ */
+@WithJenkins
+class QueueHelperTest {
+
+    /**Keeps items in the queue during the test.*/
+    private static final int QUIET_PERIOD = 1000;
+
+    private JenkinsRule j;
+
+    private FreeStyleProject project;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) throws Exception {
+        j = rule;
+        MockFolder folder = j.createFolder("folder");
+        project = folder.createProject(FreeStyleProject.class, "project");
+    }
+
+    @Test
+    void shouldUseFullNamesOfItems() {
+        assertThat(QueueHelper.getFullName(project), is("folder/project"));
+        assertThat(QueueHelper.getFullName(detached(project)), is("folder/project"));
+    }
+
+    @Test
+    void shouldPrependNamesOfOwnerTasks() {
+        StubTask step = new StubTask("step", project);
+        assertThat(QueueHelper.getFullName(step), is("folder/project/step"));
+        assertThat(QueueHelper.getFullName(new StubTask("inner", step)), is("folder/project/step/inner"));
+        assertThat(QueueHelper.getFullName(detached(new StubTask("inner", step))), is("folder/project/step/inner"));
+        assertThat(QueueHelper.getFullName(new StubTask("standalone", null)), is("standalone"));
+    }
+
+    @Test
+    void shouldCacheNamesOfQueuedItems() throws Exception {
+        project.scheduleBuild2(QUIET_PERIOD);
+        Queue.Item waiting = j.jenkins.getQueue().getItem(project);
+        assertThat(waiting, notNullValue());
+        Queue.BuildableItem item = new Queue.BuildableItem((Queue.WaitingItem) waiting);
+        assertThat(QueueItemCache.get(item), notNullValue());
+
+        String name = QueueHelper.getFullName(item);
+        assertThat(name, is("folder/project"));
+        assertThat(QueueHelper.getFullName(item), sameInstance(name));
+
+        // Names depend on the location
+        project.renameTo("renamed");
+        assertThat(QueueHelper.getFullName(item), is("folder/renamed"));
+    }
+
+    @Test
+    void shouldNotCacheNamesOfDetachedItems() {
+        Queue.BuildableItem item = detached(project);
+        assertThat(QueueItemCache.get(item), nullValue());
+        assertThat(QueueHelper.getFullName(item), is("folder/project"));
+    }
+
+    private static Queue.BuildableItem detached(Queue.Task task) {
+        return new Queue.BuildableItem(new Queue.WaitingItem(Calendar.getInstance(), task, Collections.emptyList()));
+    }
+
+    /**
+     * Task, which is not an {@link hudson.model.Item}, e.g. a Pipeline step.
+     */
+    private static final class StubTask implements Queue.Task {
+
+        private final String name;
+
+        private final Queue.Task owner;
+
+        StubTask(String name, Queue.Task owner) {
+            this.name = name;
+            this.owner = owner;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getFullDisplayName() {
+            return name;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return name;
+        }
+
+        @Override
+        public String getUrl() {
+            return "stub/" + name + "/";
+        }
+
+        @Override
+        public void checkAbortPermission() {}
+
+        @Override
+        public boolean hasAbortPermission() {
+            return false;
+        }
+
+        @Override
+        public Queue.Executable createExecutable() {
+            return null;
+        }
+
+        @Override
+        public Queue.Task getOwnerTask() {
+            return owner != null ? owner : this;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.nodes.JobRestrictionProperty;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByMemberOfGroupRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByUserRestriction;
+import hudson.model.Cause;
+import hudson.model.FreeStyleProject;
+import hudson.model.Queue;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link QueueItemCache}.
+ */
+@WithJenkins
+class QueueItemCacheTest {
+
+    /**Keeps items in the queue during the test.*/
+    private static final int QUIET_PERIOD = 1000;
+
+    private JenkinsRule j;
+
+    private FreeStyleProject project;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) throws Exception {
+        j = rule;
+        project = j.createFreeStyleProject("project");
+    }
+
+    @Test
+    void shouldResetDecisionsWhenCausesAreFolded() throws Exception {
+        JobRestrictionProperty property = new JobRestrictionProperty(new StartedByUserRestriction(
+                Collections.singletonList(new UserSelector("alice")), false, false, false));
+        project.scheduleBuild2(QUIET_PERIOD, new Cause.UserIdCause("alice"));
+        Queue.BuildableItem item = getItem();
+        assertThat(property.canTake(item), nullValue());
+        assertThat(QueueItemCache.get(item).getDecision(property.getCompiledRestriction()), notNullValue());
+
+        // The request is merged into the waiting item, all users should be accepted now
+        project.scheduleBuild2(QUIET_PERIOD, new Cause.UserIdCause("bob"));
+        item = getItem();
+        assertThat(QueueItemCache.get(item).getDecision(property.getCompiledRestriction()), nullValue());
+        assertThat(property.canTake(item), notNullValue());
+    }
+
+    @Test
+    void shouldResetDecisionsWhenJobIsReconfigured() throws Exception {
+        JobRestrictionProperty property = new JobRestrictionProperty(new RegexNameRestriction("proj.*", false));
+        project.scheduleBuild2(QUIET_PERIOD);
+        Queue.BuildableItem item = getItem();
+        assertThat(property.canTake(item), nullValue());
+        assertThat(QueueItemCache.get(item).getDecision(property.getCompiledRestriction()), notNullValue());
+
+        project.setDescription("Reconfigured");
+        assertThat(QueueItemCache.get(item).getDecision(property.getCompiledRestriction()), nullValue());
+    }
+
+    @Test
+    void shouldFollowGroupChangesOfQueuedItems() throws Exception {
+        JenkinsRule.DummySecurityRealm realm = j.createDummySecurityRealm();
+        j.jenkins.setSecurityRealm(realm);
+        JobRestrictionsConfiguration config = JobRestrictionsConfiguration.get();
+        config.setAuthoritiesCacheExpirationSeconds(0);
+        config.setAsyncAuthoritiesResolution(false);
+
+        JobRestrictionProperty property = new JobRestrictionProperty(new StartedByMemberOfGroupRestriction(
+                Collections.singletonList(new GroupSelector("developers")), false));
+        assertThat(property.getCompiledRestriction().isCacheable(), is(false));
+        project.scheduleBuild2(QUIET_PERIOD, new Cause.UserIdCause("alice"));
+        Queue.BuildableItem item = getItem();
+        assertThat(property.canTake(item), notNullValue());
+        assertThat(QueueItemCache.get(item).getDecision(property.getCompiledRestriction()), nullValue());
+
+        realm.addGroups("alice", "developers");
+        assertThat(property.canTake(item), nullValue());
+    }
+
+    private Queue.BuildableItem getItem() {
+        final Queue.Item item = j.jenkins.getQueue().getItem(project);
+        assertThat(item, notNullValue());
+        return new Queue.BuildableItem((Queue.WaitingItem) item);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import hudson.util.FormValidation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+/**
+ * Tests of {@link UserAuthoritiesCache}.
+ */
+@WithJenkins
+class UserAuthoritiesCacheTest {
+
+    private JenkinsRule j;
+
+    private JobRestrictionsConfiguration config;
+
+    private UserAuthoritiesCache cache;
+
+    /**Users, for which the authorities have been loaded.*/
+    private final List<String> loads = new ArrayList<>();
+
+    /**All users are developers except of the ones called "missing".*/
+    private final Function<String, List<String>> loader = userId -> {
+        loads.add(userId);
+        return userId.startsWith("missing") ? null : Collections.singletonList("developers");
+    };
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) {
+        j = rule;
+        config = JobRestrictionsConfiguration.get();
+        cache = UserAuthoritiesCache.get();
+        cache.invalidate();
+    }
+
+    @Test
+    void shouldLoadOnceUntilExpiration() throws Exception {
+        config.setAuthoritiesCacheExpirationSeconds(1);
+        assertThat(cache.getAuthorities("alice", loader), contains("developers"));
+        assertThat(cache.getAuthorities("alice", loader), contains("developers"));
+        assertThat(loads, contains("alice"));
+        assertThat(cache.getIfPresent("alice"), notNullValue());
+
+        Thread.sleep(1100);
+        assertThat(cache.getIfPresent("alice"), nullValue());
+        assertThat(cache.getAuthorities("alice", loader), contains("developers"));
+        assertThat(loads, contains("alice", "alice"));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedUsers() {
+        config.setAuthoritiesCacheMaxSize(2);
+        cache.getAuthorities("alice", loader);
+        cache.getAuthorities("bob", loader);
+        cache.getAuthorities("alice", loader); // bob is the eldest now
+        cache.getAuthorities("carol", loader);
+
+        assertThat(cache.getIfPresent("alice"), notNullValue());
+        assertThat(cache.getIfPresent("bob"), nullValue());
+        assertThat(cache.getIfPresent("carol"), notNullValue());
+        assertThat(loads, contains("alice", "bob", "carol"));
+    }
+
+    @Test
+    void shouldCacheMissingUsersIfEnabled() {
+        config.setAuthoritiesCacheMissingUsers(true);
+        assertThat(cache.getAuthorities("missing", loader), nullValue());
+        assertThat(cache.getAuthorities("missing", loader), nullValue());
+        assertThat(loads, contains("missing"));
+        assertThat(cache.getIfPresent("missing").getAuthorities(), nullValue());
+
+        config.setAuthoritiesCacheMissingUsers(false);
+        cache.invalidate(); // Done by JobRestrictionsConfiguration.configure()
+        assertThat(cache.getAuthorities("missing", loader), nullValue());
+        assertThat(cache.getAuthorities("missing", loader), nullValue());
+        assertThat(loads, contains("missing", "missing", "missing"));
+        assertThat(cache.getIfPresent("missing"), nullValue());
+
+        // Results of the background resolution are stored regardless of the option
+        cache.put("missing", null);
+        assertThat(cache.getIfPresent("missing"), notNullValue());
+    }
+
+    @Test
+    void shouldBeDisabledByZeroExpiration() {
+        config.setAuthoritiesCacheExpirationSeconds(0);
+        assertThat(UserAuthoritiesCache.isEnabled(), is(false));
+        assertDisabled();
+
+        config.setAuthoritiesCacheExpirationSeconds(-1);
+        assertThat(config.getAuthoritiesCacheExpirationSeconds(), is(0));
+        assertThat(UserAuthoritiesCache.isEnabled(), is(false));
+    }
+
+    @Test
+    void shouldBeDisabledByZeroSize() {
+        config.setAuthoritiesCacheMaxSize(0);
+        assertThat(UserAuthoritiesCache.isEnabled(), is(false));
+        assertDisabled();
+
+        config.setAuthoritiesCacheMaxSize(-1);
+        assertThat(config.getAuthoritiesCacheMaxSize(), is(0));
+        assertThat(UserAuthoritiesCache.isEnabled(), is(false));
+    }
+
+    @Test
+    void shouldSaveAndInvalidateOnFormSubmission() throws Exception {
+        config.setAuthoritiesCacheMaxSize(500);
+        cache.getAuthorities("alice", loader);
+        assertThat(cache.getIfPresent("alice"), notNullValue());
+
+        j.configRoundtrip();
+        assertThat(cache.getIfPresent("alice"), nullValue());
+        assertThat(new JobRestrictionsConfiguration().getAuthoritiesCacheMaxSize(), is(500));
+    }
+
+    @Test
+    void shouldWarnAboutSmallCaches() {
+        assertThat(config.doCheckAuthoritiesCacheMaxSize("1000").kind, is(FormValidation.Kind.OK));
+        assertThat(config.doCheckAuthoritiesCacheMaxSize("0").kind, is(FormValidation.Kind.OK));
+        assertThat(config.doCheckAuthoritiesCacheMaxSize("10").kind, is(FormValidation.Kind.WARNING));
+        assertThat(config.doCheckAuthoritiesCacheMaxSize("-1").kind, is(FormValidation.Kind.ERROR));
+        assertThat(config.doCheckAuthoritiesCacheMaxSize("many").kind, is(FormValidation.Kind.ERROR));
+    }
+
+    private void assertDisabled() {
+        assertThat(cache.getAuthorities("alice", loader), contains("developers"));
+        assertThat(cache.getAuthorities("alice", loader), contains("developers"));
+        assertThat(loads, contains("alice", "alice"));
+        assertThat(cache.put("alice", Collections.singletonList("developers")), contains("developers"));
+        assertThat(cache.getIfPresent("alice"), nullValue());
+    }
+}
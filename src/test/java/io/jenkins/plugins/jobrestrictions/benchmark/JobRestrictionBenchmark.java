@@ -0,0 +1,157 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.jobrestrictions.benchmark;
+
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.JobRestrictionsConfiguration;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.CompiledJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.JobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.RegexNameRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByMemberOfGroupRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.job.StartedByUserRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleAndJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.MultipleOrJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.restrictions.logic.NotJobRestriction;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.GroupSelector;
+import com.synopsys.arc.jenkinsci.plugins.jobrestrictions.util.UserSelector;
+import hudson.matrix.MatrixProject;
+import hudson.model.FreeStyleProject;
+import hudson.model.Queue;
+import io.jenkins.plugins.jobrestrictions.restrictions.job.JobClassNameRestriction;
+import io.jenkins.plugins.jobrestrictions.util.ClassSelector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Evaluation of built-in restrictions against all items of {@link RestrictionBenchmarkState}.
+ * Each operation checks the whole set of items, see {@link #checkAll(JobRestriction, List, Blackhole)}.
+ */
+@JmhBenchmark
+public class JobRestrictionBenchmark {
+
+    /**Depth of generated logic trees.*/
+    private static final int TREE_DEPTH = 4;
+
+    /**Number of children of each logic operation.*/
+    private static final int TREE_WIDTH = 4;
+
+    public static class RegexNameState extends RestrictionBenchmarkState {
+        JobRestriction restriction = new RegexNameRestriction("QA_.*", false);
+    }
+
+    public static class JobClassNameState extends RestrictionBenchmarkState {
+        JobRestriction restriction = new JobClassNameRestriction(Arrays.asList(
+                new ClassSelector(MatrixProject.class.getName()), new ClassSelector(FreeStyleProject.class.getName())));
+    }
+
+    public static class StartedByUserState extends RestrictionBenchmarkState {
+        JobRestriction restriction = new StartedByUserRestriction(
+                Arrays.asList(new UserSelector("alice"), new UserSelector("bob")), true, false, false);
+    }
+
+    public static class StartedByMemberOfGroupState extends RestrictionBenchmarkState {
+        JobRestriction restriction = new StartedByMemberOfGroupRestriction(
+                Arrays.asList(new GroupSelector("bob-group" + (GROUPS_PER_USER - 1)), new GroupSelector("admins")),
+                true);
+    }
+
+    /**
+     * Same as {@link StartedByMemberOfGroupState}, but each check calls the {@code SecurityRealm}.
+     */
+    public static class StartedByMemberOfGroupUncachedState extends StartedByMemberOfGroupState {
+        @Override
+        public void setup() throws Exception {
+            super.setup();
+            JobRestrictionsConfiguration.get().setAuthoritiesCacheExpirationSeconds(0);
+        }
+    }
+
+    public static class DeepTreeState extends RestrictionBenchmarkState {
+        JobRestriction restriction = createTree(TREE_DEPTH, 0);
+        CompiledJobRestriction compiled = CompiledJobRestriction.compile(restriction);
+    }
+
+    @Benchmark
+    public void regexName(RegexNameState state, Blackhole blackhole) {
+        checkAll(state.restriction, state.items, blackhole);
+    }
+
+    @Benchmark
+    public void jobClassName(JobClassNameState state, Blackhole blackhole) {
+        checkAll(state.restriction, state.items, blackhole);
+    }
+
+    @Benchmark
+    public void startedByUser(StartedByUserState state, Blackhole blackhole) {
+        checkAll(state.restriction, state.items, blackhole);
+    }
+
+    @Benchmark
+    public void startedByMemberOfGroup(StartedByMemberOfGroupState state, Blackhole blackhole) {
+        checkAll(state.restriction, state.items, blackhole);
+    }
+
+    @Benchmark
+    public void startedByMemberOfGroupUncached(StartedByMemberOfGroupUncachedState state, Blackhole blackhole) {
+        checkAll(state.restriction, state.items, blackhole);
+    }
+
+    @Benchmark
+    public void deepTree(DeepTreeState state, Blackhole blackhole) {
+        checkAll(state.restriction, state.items, blackhole);
+    }
+
+    @Benchmark
+    public void deepTreeCompiled(DeepTreeState state, Blackhole blackhole) {
+        for (Queue.BuildableItem item : state.items) {
+            blackhole.consume(state.compiled.canTake(item));
+        }
+    }
+
+    private static void checkAll(JobRestriction restriction, List<Queue.BuildableItem> items, Blackhole blackhole) {
+        for (Queue.BuildableItem item : items) {
+            blackhole.consume(restriction.canTake(item));
+        }
+    }
+
+    /**
+     * Generates a tree of alternating {@link MultipleAndJobRestriction}s and {@link MultipleOrJobRestriction}s.
+     * Leaves are mostly regular expressions, which do not match, so most branches are evaluated.
+     */
+    private static JobRestriction createTree(int depth, int index) {
+        if (depth == 0) {
+            final JobRestriction leaf = new RegexNameRestriction("team-" + index + "_.*", false);
+            return index % 3 == 0 ? new NotJobRestriction(leaf) : leaf;
+        }
+
+        final ArrayList<JobRestriction> children = new ArrayList<>(TREE_WIDTH);
+        for (int i = 0; i < TREE_WIDTH; i++) {
+            children.add(createTree(depth - 1, index * TREE_WIDTH + i));
+        }
+        return depth % 2 == 0 ? new MultipleAndJobRestriction(children) : new MultipleOrJobRestriction(children);
+    }
+}
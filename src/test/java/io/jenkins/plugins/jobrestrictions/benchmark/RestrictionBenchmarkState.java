@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.jobrestrictions.benchmark;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Action;
+import hudson.model.Cause;
+import hudson.model.CauseAction;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.model.Queue;
+import hudson.security.AbstractPasswordBasedSecurityRealm;
+import hudson.security.GroupDetails;
+import hudson.security.SecurityRealm;
+import hudson.triggers.TimerTrigger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import jenkins.model.Jenkins;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Jenkins instance with synthetic {@link Queue.BuildableItem}s.
+ * Items are not submitted to the queue, so restrictions are evaluated without per-item caches.
+ * Causes of the items are realistic: manual runs, runs triggered by upstream builds,
+ * which have been started by users, and runs of timers.
+ */
+public class RestrictionBenchmarkState extends JmhBenchmarkState {
+
+    /**Number of groups each user belongs to.*/
+    static final int GROUPS_PER_USER = 20;
+
+    final List<Queue.BuildableItem> items = new ArrayList<>();
+
+    @Override
+    public void setup() throws Exception {
+        final Jenkins jenkins = getJenkins();
+        jenkins.setSecurityRealm(new StubSecurityRealm());
+
+        final FreeStyleProject upstream = jenkins.createProject(FreeStyleProject.class, "QA_upstream");
+        final FreeStyleBuild upstreamBuild = upstream
+                .scheduleBuild2(0, new CauseAction(new Cause.UserIdCause("bob")))
+                .get();
+
+        final MatrixProject matrix = jenkins.createProject(MatrixProject.class, "team-b_matrix");
+        matrix.setAxes(new AxisList(new TextAxis("os", "linux", "windows")));
+
+        for (int i = 0; i < 10; i++) {
+            final FreeStyleProject project =
+                    jenkins.createProject(FreeStyleProject.class, (i % 2 == 0 ? "QA_job" : "team-a_job") + i);
+            items.add(item(project, new Cause.UserIdCause("alice")));
+            items.add(item(project, new Cause.UpstreamCause(upstreamBuild)));
+            items.add(item(project, new Cause.UserIdCause("carol"), new Cause.UpstreamCause(upstreamBuild)));
+            items.add(item(project, new TimerTrigger.TimerTriggerCause()));
+        }
+        items.add(item(matrix, new Cause.UserIdCause("alice")));
+    }
+
+    private static Queue.BuildableItem item(Queue.Task task, Cause... causes) {
+        final List<Action> actions = Collections.singletonList(new CauseAction(causes));
+        return new Queue.BuildableItem(new Queue.WaitingItem(Calendar.getInstance(), task, actions));
+    }
+
+    /**
+     * Resolves users without any remote calls.
+     * Each user belongs to {@link #GROUPS_PER_USER} groups named after the user.
+     */
+    private static final class StubSecurityRealm extends AbstractPasswordBasedSecurityRealm {
+
+        @Override
+        protected UserDetails authenticate2(String username, String password) {
+            return loadUserByUsername2(username);
+        }
+
+        @Override
+        public UserDetails loadUserByUsername2(String username) throws UsernameNotFoundException {
+            final List<GrantedAuthority> authorities = new ArrayList<>(GROUPS_PER_USER + 1);
+            authorities.add(SecurityRealm.AUTHENTICATED_AUTHORITY2);
+            for (int i = 0; i < GROUPS_PER_USER; i++) {
+                authorities.add(new SimpleGrantedAuthority(username + "-group" + i));
+            }
+            return new User(username, "", true, true, true, true, authorities);
+        }
+
+        @Override
+        public GroupDetails loadGroupByGroupname2(String groupname, boolean fetchMembers)
+                throws UsernameNotFoundException {
+            throw new UsernameNotFoundException(groupname);
+        }
+    }
+}
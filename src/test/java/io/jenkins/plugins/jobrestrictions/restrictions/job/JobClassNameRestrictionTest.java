@@ -34,6 +34,7 @@ import io.jenkins.plugins.jobrestrictions.util.ClassSelector;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
+import jenkins.model.Jenkins;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.Issue;
@@ -68,6 +69,31 @@ class JobClassNameRestrictionTest {
         assertCannotTake(prop, matrixProject);
     }
 
+    @Test
+    void shouldRestrictJobClassAfterReload() throws Exception {
+        JobClassNameRestriction jobClassNameRestriction =
+                new JobClassNameRestriction(List.of(new ClassSelector(FreeStyleProject.class.getName())));
+        String xml = Jenkins.XSTREAM2.toXML(new JobRestrictionProperty(jobClassNameRestriction));
+        JobRestrictionProperty prop = (JobRestrictionProperty) Jenkins.XSTREAM2.fromXML(xml);
+
+        assertCanTake(prop, j.createFreeStyleProject());
+        assertCannotTake(prop, j.createProject(MatrixProject.class));
+    }
+
+    @Test
+    void shouldKeepSubclassStateAfterReload() throws Exception {
+        CustomJobClassNameRestriction restriction =
+                new CustomJobClassNameRestriction(List.of(new ClassSelector(FreeStyleProject.class.getName())));
+        restriction.comment = "Only freestyle";
+        Object loaded = Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(restriction));
+
+        assertThat(loaded, instanceOf(CustomJobClassNameRestriction.class));
+        assertThat(((CustomJobClassNameRestriction) loaded).comment, is("Only freestyle"));
+        JobRestrictionProperty prop = new JobRestrictionProperty((CustomJobClassNameRestriction) loaded);
+        assertCanTake(prop, j.createFreeStyleProject());
+        assertCannotTake(prop, j.createProject(MatrixProject.class));
+    }
+
     private void assertCanTake(JobRestrictionProperty prop, Queue.Task task) {
         Queue.BuildableItem item =
                 new Queue.BuildableItem(new Queue.WaitingItem(Calendar.getInstance(), task, Collections.emptyList()));
@@ -79,4 +105,16 @@ class JobClassNameRestrictionTest {
                 new Queue.BuildableItem(new Queue.WaitingItem(Calendar.getInstance(), task, Collections.emptyList()));
         assertThat("Job Restriction Property should not accept " + task.getClass(), prop.canTake(item), notNullValue());
     }
+
+    /**
+     * Restriction with additional state, which should survive deserialization.
+     */
+    public static class CustomJobClassNameRestriction extends JobClassNameRestriction {
+
+        private String comment;
+
+        public CustomJobClassNameRestriction(List<ClassSelector> jobClasses) {
+            super(jobClasses);
+        }
+    }
 }